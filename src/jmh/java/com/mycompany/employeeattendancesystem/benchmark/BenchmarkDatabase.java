@@ -0,0 +1,155 @@
+package com.mycompany.employeeattendancesystem.benchmark;
+
+import com.mycompany.employeeattendancesystem.AttendanceEntry;
+import com.mycompany.employeeattendancesystem.DatabaseManager;
+import com.mycompany.employeeattendancesystem.Employee;
+import com.mycompany.employeeattendancesystem.InMemoryAttendanceRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the SQLite databases used by the benchmarks (and the same data
+ * in an InMemoryAttendanceRepository, for comparison).
+ *
+ * Each (employees, historyDays) combination is generated once into target/bench-db
+ * and reused by later runs. Every benchmark trial works on its own copy, so
+ * write benchmarks never change the template.
+ */
+final class BenchmarkDatabase {
+
+    /** Last day of the generated attendance history (fixed, so runs are comparable). */
+    static final LocalDate HISTORY_END = LocalDate.of(2025, 12, 31);
+
+    private static final Path DIRECTORY = Paths.get("target", "bench-db");
+    private static final String[] POSITIONS = {"Engineer", "Technician", "Supervisor", "Operator", "Clerk"};
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Returns the JDBC URL of a fresh, private copy of the requested database.
+     */
+    static String freshCopy(int employees, int historyDays) throws IOException, SQLException {
+        Path template = template(employees, historyDays);
+        Path copy = Files.createTempFile(DIRECTORY, "trial-", ".db");
+        Files.copy(template, copy, StandardCopyOption.REPLACE_EXISTING);
+        copy.toFile().deleteOnExit();
+        return "jdbc:sqlite:" + copy;
+    }
+
+    /**
+     * Returns a new in-memory repository holding the same employees and history
+     * as the generated database (same IDs, same random statuses).
+     */
+    static InMemoryAttendanceRepository inMemory(int employees, int historyDays) {
+        InMemoryAttendanceRepository repository = new InMemoryAttendanceRepository();
+        List<Employee> batch = new ArrayList<>(employees);
+        for (int id = 1; id <= employees; id++) {
+            batch.add(new Employee(id, "Employee " + id, POSITIONS[id % POSITIONS.length], "employee" + id + "@example.com"));
+        }
+        repository.addEmployeesBatch(batch, new ArrayList<>()); // IDs are handed out from 1, as in the database
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (LocalDate day = HISTORY_END.minusDays(historyDays - 1); !day.isAfter(HISTORY_END); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            List<AttendanceEntry> marks = new ArrayList<>(employees);
+            for (int id = 1; id <= employees; id++) {
+                int roll = random.nextInt(100);
+                marks.add(new AttendanceEntry(id, day.toString(), roll < 85 ? "Present" : roll < 95 ? "Absent" : "On Leave"));
+            }
+            repository.markAttendanceBatch(marks);
+        }
+        return repository;
+    }
+
+    private static synchronized Path template(int employees, int historyDays) throws IOException, SQLException {
+        Files.createDirectories(DIRECTORY);
+        Path template = DIRECTORY.resolve("employees-" + employees + "-days-" + historyDays + ".db");
+        if (Files.exists(template)) {
+            return template;
+        }
+
+        System.out.println("Generating " + template + " ...");
+        Path tmp = Files.createTempFile(DIRECTORY, "generating-", ".db");
+        String url = "jdbc:sqlite:" + tmp;
+
+        // Let DatabaseManager create the real schema (tables, migrations, admin user)
+        new DatabaseManager(url).close();
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement stmt = conn.createStatement()) {
+                // Bulk load: durability does not matter for a generated file
+                stmt.execute("PRAGMA journal_mode = OFF");
+                stmt.execute("PRAGMA synchronous = OFF");
+            }
+            conn.setAutoCommit(false);
+            insertEmployees(conn, employees);
+            insertHistory(conn, employees, historyDays);
+            conn.commit();
+        }
+
+        Files.move(tmp, template, StandardCopyOption.ATOMIC_MOVE);
+        return template;
+    }
+
+    private static void insertEmployees(Connection conn, int employees) throws SQLException {
+        String sql = "INSERT INTO employees(id, name, position, email) VALUES(?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int id = 1; id <= employees; id++) {
+                pstmt.setInt(1, id);
+                pstmt.setString(2, "Employee " + id);
+                pstmt.setString(3, POSITIONS[id % POSITIONS.length]);
+                pstmt.setString(4, "employee" + id + "@example.com");
+                pstmt.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * One record per employee per weekday: ~85% present, ~10% absent, ~5% on leave.
+     */
+    private static void insertHistory(Connection conn, int employees, int historyDays) throws SQLException {
+        String sql = "INSERT INTO attendance(employee_id, date, status) VALUES(?, ?, ?)";
+        SplittableRandom random = new SplittableRandom(42);
+        long pending = 0;
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (LocalDate day = HISTORY_END.minusDays(historyDays - 1); !day.isAfter(HISTORY_END); day = day.plusDays(1)) {
+                if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                for (int id = 1; id <= employees; id++) {
+                    int roll = random.nextInt(100);
+                    pstmt.setInt(1, id);
+                    pstmt.setLong(2, day.toEpochDay());
+                    pstmt.setString(3, roll < 85 ? "Present" : roll < 95 ? "Absent" : "On Leave");
+                    pstmt.addBatch();
+                    if (++pending % BATCH_SIZE == 0) {
+                        pstmt.executeBatch();
+                    }
+                }
+            }
+            pstmt.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycompany.employeeattendancesystem.benchmark;
+
+import com.mycompany.employeeattendancesystem.AttendanceHttpServer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local load-test client for the headless check-in server.
+ *
+ * Start the server first (write-behind is recommended for kiosk load):
+ *   java -Dattendance.writeBehind=true -Dattendance.server.token=<secret> -cp target/classes:... \
+ *        com.mycompany.employeeattendancesystem.MainApp --server 8080
+ * then run it with the same token (sent in the X-Attendance-Token header):
+ *   java -Dattendance.server.token=<secret> -cp target/benchmarks.jar \
+ *        com.mycompany.employeeattendancesystem.benchmark.CheckInLoadTest \
+ *        [baseUrl] [totalRequests] [concurrency] [employeeCount]
+ *
+ * Prints check-ins per second and latency percentiles. Rejected tokens (401) are
+ * counted separately, so a wrong token is obvious rather than just "failed".
+ */
+public final class CheckInLoadTest {
+
+    private CheckInLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int total = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        int employees = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        String token = System.getProperty("attendance.server.token");
+        if (token == null || token.isEmpty()) {
+            System.err.println("Set -Dattendance.server.token to the server's token"
+                    + " (printed by the server at startup if it was not given one)");
+            System.exit(1);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        URI uri = URI.create(baseUrl + "/attendance");
+        String today = LocalDate.now().toString();
+
+        long[] latencies = new long[total];
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger unauthorized = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    String body = "employeeId=" + (1 + index % employees)
+                            + "&status=Present&date=" + today;
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/x-www-form-urlencoded")
+                            .header(AttendanceHttpServer.TOKEN_HEADER, token)
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 401) {
+                            unauthorized.incrementAndGet();
+                            failures.incrementAndGet();
+                        } else if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+        } // Waits for all requests to finish
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%d check-ins in %.2f s = %.0f/s (%d failed, concurrency %d)%n",
+                total, seconds, total / seconds, failures.get(), concurrency);
+        System.out.printf("latency p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[total - 1] / 1e6);
+        if (unauthorized.get() > 0) {
+            System.out.printf("%d requests were rejected with 401: check -Dattendance.server.token%n", unauthorized.get());
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)))] / 1e6;
+    }
+}
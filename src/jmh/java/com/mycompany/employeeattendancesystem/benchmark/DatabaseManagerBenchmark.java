@@ -0,0 +1,109 @@
+package com.mycompany.employeeattendancesystem.benchmark;
+
+import com.mycompany.employeeattendancesystem.DatabaseManager;
+import com.mycompany.employeeattendancesystem.Employee;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.table.DefaultTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the DatabaseManager hot paths against generated databases.
+ * Run through BenchmarkRunner to also record allocation rates (GC profiler).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DatabaseManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    // About two years; use -p historyDays=... to change
+    @Param({"730"})
+    public int historyDays;
+
+    private DatabaseManager dbManager;
+    private DefaultTableModel employeeModel;
+    private DefaultTableModel reportModel;
+    private final AtomicLong emailCounter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbManager = new DatabaseManager(BenchmarkDatabase.freshCopy(employees, historyDays));
+        employeeModel = new DefaultTableModel(new String[]{"ID", "Name", "Position", "Email"}, 0);
+        reportModel = new DefaultTableModel(new String[]{"Employee Name", "Status"}, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dbManager.close();
+    }
+
+    /**
+     * Per-thread random source for picking employees and dates.
+     */
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private final SplittableRandom random = new SplittableRandom(7);
+
+        int employeeId(int employees) {
+            return 1 + random.nextInt(employees);
+        }
+
+        String date(int historyDays) {
+            return BenchmarkDatabase.HISTORY_END.minusDays(random.nextInt(historyDays)).toString();
+        }
+    }
+
+    @Benchmark
+    public boolean validateAdmin() {
+        return dbManager.validateAdmin("admin", "admin123");
+    }
+
+    @Benchmark
+    public boolean addEmployee() {
+        long n = emailCounter.incrementAndGet();
+        return dbManager.addEmployee("Bench " + n, "Operator", "bench" + n + "@example.com");
+    }
+
+    @Benchmark
+    public boolean markAttendance(Picker picker) {
+        return dbManager.markAttendance(picker.employeeId(employees), picker.date(historyDays), "Present");
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployeesForAttendance() {
+        return dbManager.getAllEmployeesForAttendance();
+    }
+
+    @Benchmark
+    public int loadEmployeesToTable() {
+        dbManager.loadEmployeesToTable(employeeModel);
+        return employeeModel.getRowCount();
+    }
+
+    @Benchmark
+    public int loadAttendanceReport(Picker picker) {
+        dbManager.loadAttendanceReport(reportModel, picker.date(historyDays));
+        return reportModel.getRowCount();
+    }
+}
@@ -0,0 +1,100 @@
+package com.mycompany.employeeattendancesystem.benchmark;
+
+import com.mycompany.employeeattendancesystem.AttendanceRepository;
+import com.mycompany.employeeattendancesystem.DatabaseManager;
+import com.mycompany.employeeattendancesystem.Page;
+import com.mycompany.employeeattendancesystem.ReportRow;
+import com.mycompany.employeeattendancesystem.StorageMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Report reads running at the same time as attendance writes,
+ * in rollback-journal mode ("before") and WAL mode ("after"), and against the
+ * in-memory engine ("MEMORY") as the no-disk baseline.
+ *
+ * Three reader threads page through the daily report while one writer thread
+ * marks attendance; JMH reports the throughput of each side separately.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MixedReadWriteBenchmark {
+
+    private static final int REPORT_PAGE_SIZE = 200;
+
+    // A StorageMode, or MEMORY for InMemoryAttendanceRepository
+    @Param({"ROLLBACK_JOURNAL", "WAL", "MEMORY"})
+    public String storageMode;
+
+    @Param({"10000"})
+    public int employees;
+
+    @Param({"365"})
+    public int historyDays;
+
+    private AttendanceRepository dbManager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbManager = storageMode.equals("MEMORY")
+                ? BenchmarkDatabase.inMemory(employees, historyDays)
+                : new DatabaseManager(BenchmarkDatabase.freshCopy(employees, historyDays), StorageMode.valueOf(storageMode));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dbManager.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private final SplittableRandom random = new SplittableRandom(11);
+
+        int employeeId(int employees) {
+            return 1 + random.nextInt(employees);
+        }
+
+        int offset(int employees) {
+            return random.nextInt(Math.max(1, employees - REPORT_PAGE_SIZE));
+        }
+
+        String date(int historyDays) {
+            return BenchmarkDatabase.HISTORY_END.minusDays(random.nextInt(historyDays)).toString();
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Page<ReportRow> readReportPage(Picker picker) {
+        String cursor = dbManager.getEmployeeCursor(picker.offset(employees));
+        return dbManager.getAttendanceReportPage(picker.date(historyDays), cursor, REPORT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean writeAttendance(Picker picker) {
+        return dbManager.markAttendance(picker.employeeId(employees), picker.date(historyDays), "Absent");
+    }
+}
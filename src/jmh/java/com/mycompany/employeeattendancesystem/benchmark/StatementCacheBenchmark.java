@@ -0,0 +1,81 @@
+package com.mycompany.employeeattendancesystem.benchmark;
+
+import com.mycompany.employeeattendancesystem.ConnectionPool;
+import com.mycompany.employeeattendancesystem.DatabaseManager;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time per call with the statement cache off (statementCacheSize=0, every call
+ * prepares its SQL again) and on (the compiled statement is reused).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class StatementCacheBenchmark {
+
+    @Param({"0", "" + ConnectionPool.DEFAULT_STATEMENT_CACHE_SIZE})
+    public int statementCacheSize;
+
+    @Param({"10000"})
+    public int employees;
+
+    @Param({"365"})
+    public int historyDays;
+
+    private DatabaseManager dbManager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Read by the DatabaseManager constructor (each parameter value runs in its own fork)
+        System.setProperty("attendance.statementCacheSize", Integer.toString(statementCacheSize));
+        dbManager = new DatabaseManager(BenchmarkDatabase.freshCopy(employees, historyDays));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println();
+        System.out.println(dbManager.getConnectionPool().getAcquireStats());
+        dbManager.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private final SplittableRandom random = new SplittableRandom(13);
+
+        int employeeId(int employees) {
+            return 1 + random.nextInt(employees);
+        }
+
+        String date(int historyDays) {
+            return BenchmarkDatabase.HISTORY_END.minusDays(random.nextInt(historyDays)).toString();
+        }
+    }
+
+    @Benchmark
+    public boolean validateAdmin() {
+        return dbManager.validateAdmin("admin", "admin123");
+    }
+
+    @Benchmark
+    public boolean markAttendance(Picker picker) {
+        return dbManager.markAttendance(picker.employeeId(employees), picker.date(historyDays), "Present");
+    }
+}
@@ -0,0 +1,172 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/**
+ * An asynchronous facade over an AttendanceRepository (the SQLite DatabaseManager,
+ * or the in-memory engine). Every call runs on its own virtual thread and returns a CompletableFuture,
+ * so the Swing Event Dispatch Thread (EDT) never waits on the database.
+ *
+ * Use the EDT executor to get results back onto the Swing thread, e.g.
+ * asyncDb.getAllEmployees().thenAcceptAsync(list -> ..., AsyncDatabaseManager.EDT);
+ *
+ * The repository may still be opening when this facade is created (see
+ * MainApp): calls made before then simply wait for it, off the EDT.
+ */
+public class AsyncDatabaseManager implements AutoCloseable {
+
+    /**
+     * Runs callbacks on the Swing Event Dispatch Thread.
+     */
+    public static final Executor EDT = SwingUtilities::invokeLater;
+
+    // Completes once the database is open (schema created, directory loaded)
+    private final CompletableFuture<AttendanceRepository> ready;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AsyncDatabaseManager(AttendanceRepository repository) {
+        this(CompletableFuture.completedFuture(repository));
+    }
+
+    /**
+     * Wraps a repository that is still being opened in the background.
+     */
+    public AsyncDatabaseManager(CompletableFuture<AttendanceRepository> ready) {
+        this.ready = ready;
+    }
+
+    /**
+     * Completes once the database is open (or fails if it could not be opened).
+     */
+    public CompletableFuture<AttendanceRepository> whenReady() {
+        return ready;
+    }
+
+    /**
+     * The underlying synchronous repository (for code that is already off the EDT).
+     * Waits if the database is still opening, so on the EDT only call it once
+     * whenReady() has completed (e.g. after login).
+     */
+    public AttendanceRepository getRepository() {
+        return ready.join();
+    }
+
+    public CompletableFuture<Boolean> validateAdmin(String username, String password) {
+        return call(db -> db.validateAdmin(username, password));
+    }
+
+    public CompletableFuture<Boolean> addEmployee(String name, String position, String email) {
+        return call(db -> db.addEmployee(name, position, email));
+    }
+
+    public CompletableFuture<Boolean> deleteEmployee(int id) {
+        return call(db -> db.deleteEmployee(id));
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return call(AttendanceRepository::getAllEmployees);
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployeesForAttendance() {
+        return call(AttendanceRepository::getAllEmployeesForAttendance);
+    }
+
+    public CompletableFuture<List<Employee>> searchEmployees(String query, int limit) {
+        return call(db -> db.searchEmployees(query, limit));
+    }
+
+    public CompletableFuture<Boolean> markAttendance(int employeeId, String date, String status) {
+        return call(db -> db.markAttendance(employeeId, date, status));
+    }
+
+    public CompletableFuture<Boolean> markAttendanceBatch(List<AttendanceEntry> entries) {
+        return call(db -> db.markAttendanceBatch(entries));
+    }
+
+    public CompletableFuture<List<ReportRow>> getAttendanceReport(String date) {
+        return call(db -> db.getAttendanceReport(date));
+    }
+
+    public CompletableFuture<int[]> getDailyStatusCounts(String date) {
+        return call(db -> db.getDailyStatusCounts(date));
+    }
+
+    public CompletableFuture<Page<AttendanceEntry>> getAttendanceHistory(int employeeId, String cursor, int limit) {
+        return call(db -> db.getAttendanceHistory(employeeId, cursor, limit));
+    }
+
+    public CompletableFuture<int[]> getEmployeeStatusCounts(int employeeId) {
+        return call(db -> db.getEmployeeStatusCounts(employeeId));
+    }
+
+    public CompletableFuture<List<DailySummary>> getDailySummary(String fromDate, String toDate) {
+        return call(db -> db.getDailySummary(fromDate, toDate));
+    }
+
+    public CompletableFuture<List<AttendanceSummary>> getAttendanceSummary(String fromDate, String toDate) {
+        return call(db -> db.getAttendanceSummary(fromDate, toDate));
+    }
+
+    /**
+     * Exports attendance for a date range to a CSV or XLSX file (chosen by extension).
+     * Completes with the number of rows written, or -1 on failure. A cancelled export
+     * deletes the partial file.
+     */
+    public CompletableFuture<Long> exportAttendance(String fromDate, String toDate, Path file, AtomicBoolean cancelled) {
+        return call(db -> {
+            long rows;
+            try (AttendanceExportWriter writer = AttendanceExportWriter.open(file)) {
+                rows = db.exportAttendance(fromDate, toDate, writer, cancelled);
+            } catch (IOException e) {
+                System.err.println("Error writing export file: " + e.getMessage());
+                rows = -1;
+            }
+            if (cancelled.get() || rows < 0) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    System.err.println("Could not delete partial export: " + e.getMessage());
+                }
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Runs any database work on a virtual thread (once the database is open).
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> work) {
+        return ready.thenApplyAsync(db -> work.get(), executor);
+    }
+
+    private <T> CompletableFuture<T> call(Function<AttendanceRepository, T> work) {
+        return ready.thenApplyAsync(work, executor);
+    }
+
+    /**
+     * Stops accepting new work and waits briefly for running calls to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Database tasks still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory index of the attendance table: for every (day, status) it keeps
+ * one EmployeeBitmap of the employees with that status on that day.
+ *
+ * Employees are numbered with dense ordinals (0, 1, 2, ... in ID order at
+ * startup, new employees appended), so a bitmap needs one bit per employee at
+ * most. Daily headcounts are then just bitmap sizes, and questions over several
+ * days ("present on all of these days", "absent on any of them", "absent three
+ * days in a row") are word-wise AND / OR of a few bitmaps, with no SQL at all.
+ *
+ * Owned by DatabaseManager: rebuilt from the attendance table at startup and
+ * updated after every committed mark and employee delete. Days are epoch days
+ * (see DatabaseManager.toEpochDay). Safe to use from any thread.
+ */
+public class AttendanceBitmapIndex {
+
+    // Bitmap slot for each status; anything else is not indexed
+    public static final String[] STATUSES = {"Present", "Absent", "On Leave"};
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Integer> ordinalById = new HashMap<>();
+    private int[] idByOrdinal = new int[16]; // -1 = deleted employee
+    private int ordinalCount;
+
+    // Epoch day -> one bitmap per status (null = nobody with that status)
+    private final Map<Long, EmployeeBitmap[]> days = new HashMap<>();
+
+    /**
+     * Removes everything (used before a rebuild).
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ordinalById.clear();
+            ordinalCount = 0;
+            days.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gives an employee an ordinal. Marks for unknown employees are ignored.
+     */
+    public void addEmployee(int employeeId) {
+        lock.writeLock().lock();
+        try {
+            if (!ordinalById.containsKey(employeeId)) {
+                if (ordinalCount == idByOrdinal.length) {
+                    idByOrdinal = Arrays.copyOf(idByOrdinal, ordinalCount * 2);
+                }
+                idByOrdinal[ordinalCount] = employeeId;
+                ordinalById.put(employeeId, ordinalCount++);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clears an employee from every day. The ordinal is retired, not reused.
+     */
+    public void removeEmployee(int employeeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(employeeId);
+            if (ordinal == null) {
+                return;
+            }
+            idByOrdinal[ordinal] = -1;
+            for (EmployeeBitmap[] bitmaps : days.values()) {
+                for (EmployeeBitmap bitmap : bitmaps) {
+                    if (bitmap != null) {
+                        bitmap.remove(ordinal);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records an employee's status for a day, replacing any earlier status.
+     */
+    public void mark(int employeeId, long epochDay, String status) {
+        int slot = slotOf(status);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(employeeId);
+            if (ordinal == null) {
+                return;
+            }
+            EmployeeBitmap[] bitmaps = days.computeIfAbsent(epochDay, day -> new EmployeeBitmap[STATUSES.length]);
+            for (int i = 0; i < bitmaps.length; i++) {
+                if (i == slot) {
+                    if (bitmaps[i] == null) {
+                        bitmaps[i] = new EmployeeBitmap();
+                    }
+                    bitmaps[i].add(ordinal);
+                } else if (bitmaps[i] != null) {
+                    bitmaps[i].remove(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * An employee's status on a day, or null if they have none (or are not indexed).
+     */
+    public String statusOf(int employeeId, long epochDay) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(employeeId);
+            EmployeeBitmap[] bitmaps = days.get(epochDay);
+            if (ordinal == null || bitmaps == null) {
+                return null;
+            }
+            for (int i = 0; i < bitmaps.length; i++) {
+                if (bitmaps[i] != null && bitmaps[i].contains(ordinal)) {
+                    return STATUSES[i];
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of employees with the status on a day.
+     */
+    public int count(long epochDay, String status) {
+        int slot = slotOf(status);
+        if (slot < 0) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            EmployeeBitmap bitmap = bitmap(epochDay, slot);
+            return bitmap == null ? 0 : bitmap.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Present / absent / on-leave counts for one day, in STATUSES order.
+     */
+    public int[] countAll(long epochDay) {
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[STATUSES.length];
+            EmployeeBitmap[] bitmaps = days.get(epochDay);
+            if (bitmaps != null) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = bitmaps[i] == null ? 0 : bitmaps[i].cardinality();
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Daily headcounts for a status, one entry per day from 'fromDay' to 'toDay' inclusive.
+     */
+    public int[] countPerDay(long fromDay, long toDay, String status) {
+        int slot = slotOf(status);
+        int[] counts = new int[(int) Math.max(0, toDay - fromDay + 1)];
+        if (slot < 0) {
+            return counts;
+        }
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < counts.length; i++) {
+                EmployeeBitmap bitmap = bitmap(fromDay + i, slot);
+                counts[i] = bitmap == null ? 0 : bitmap.cardinality();
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of employees with the status on every day of the range (AND of the bitmaps).
+     */
+    public int[] onAllDays(long fromDay, long toDay, String status) {
+        lock.readLock().lock();
+        try {
+            return toIds(and(fromDay, toDay, slotOf(status)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of employees with the status on at least one day of the range (OR of the bitmaps).
+     */
+    public int[] onAnyDay(long fromDay, long toDay, String status) {
+        int slot = slotOf(status);
+        lock.readLock().lock();
+        try {
+            long[] result = new long[EmployeeBitmap.wordCount(ordinalCount)];
+            for (long day = fromDay; slot >= 0 && day <= toDay; day++) {
+                EmployeeBitmap bitmap = bitmap(day, slot);
+                if (bitmap != null) {
+                    bitmap.orInto(result);
+                }
+            }
+            return toIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of employees with the status on 'length' consecutive days somewhere in
+     * the range (e.g. absent three days in a row): the OR of the AND of each window.
+     */
+    public int[] onConsecutiveDays(long fromDay, long toDay, String status, int length) {
+        int slot = slotOf(status);
+        lock.readLock().lock();
+        try {
+            long[] result = new long[EmployeeBitmap.wordCount(ordinalCount)];
+            for (long start = fromDay; length > 0 && start + length - 1 <= toDay; start++) {
+                long[] window = and(start, start + length - 1, slot);
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= window[i];
+                }
+            }
+            return toIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the read lock
+
+    private long[] and(long fromDay, long toDay, int slot) {
+        long[] result = new long[EmployeeBitmap.wordCount(ordinalCount)];
+        if (slot < 0 || toDay < fromDay) {
+            return result;
+        }
+        for (long day = fromDay; day <= toDay; day++) {
+            EmployeeBitmap bitmap = bitmap(day, slot);
+            if (bitmap == null) {
+                Arrays.fill(result, 0); // Nobody on this day, so nobody on all days
+                return result;
+            }
+            if (day == fromDay) {
+                bitmap.orInto(result);
+            } else {
+                bitmap.andInto(result);
+            }
+        }
+        return result;
+    }
+
+    private EmployeeBitmap bitmap(long epochDay, int slot) {
+        EmployeeBitmap[] bitmaps = days.get(epochDay);
+        return bitmaps == null ? null : bitmaps[slot];
+    }
+
+    private int[] toIds(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        int[] ids = new int[count];
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                int ordinal = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (idByOrdinal[ordinal] >= 0) {
+                    ids[n++] = idByOrdinal[ordinal];
+                }
+            }
+        }
+        return n == ids.length ? ids : Arrays.copyOf(ids, n);
+    }
+
+    /**
+     * True if 'status' is one of STATUSES.
+     */
+    static boolean isStatus(String status) {
+        return slotOf(status) >= 0;
+    }
+
+    private static int slotOf(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * One (employee, date, status) attendance row: the input of
+ * AttendanceRepository.markAttendanceBatch() and a row of an employee's history.
+ */
+public class AttendanceEntry {
+
+    private final int employeeId;
+    private final String date;
+    private final String status;
+
+    public AttendanceEntry(int employeeId, String date, String status) {
+        this.employeeId = employeeId;
+        this.date = date;
+        this.status = status;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,197 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes attendance rows (date, employee name, status) to a CSV or XLSX file,
+ * one row at a time. Nothing is kept in memory apart from a fixed-size output
+ * buffer, so exports of any size use the same amount of heap.
+ */
+public interface AttendanceExportWriter extends AutoCloseable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void writeRow(String date, String employeeName, String status) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Opens a writer for the file; the format is chosen from its extension (.xlsx or .csv).
+     */
+    static AttendanceExportWriter open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        return name.endsWith(".xlsx") ? new XlsxWriter(out) : new CsvWriter(out);
+    }
+
+    /**
+     * Plain CSV with a header row. Cells that a spreadsheet would read as a
+     * formula are written as quoted text starting with '.
+     */
+    class CsvWriter implements AttendanceExportWriter {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write("Date,Employee Name,Status\r\n");
+        }
+
+        @Override
+        public void writeRow(String date, String employeeName, String status) throws IOException {
+            writer.write(date);
+            writer.write(',');
+            writer.write(escape(employeeName));
+            writer.write(',');
+            writer.write(escape(status));
+            writer.write("\r\n");
+        }
+
+        static String escape(String value) {
+            // Spreadsheet apps run a cell starting with = + - @ (or tab / CR) as a formula;
+            // a leading ' makes it plain text ("CSV injection")
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                return "\"'" + value.replace("\"", "\"\"") + '"';
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * A minimal Office Open XML workbook, written as a stream: each sheet's XML goes
+     * straight into the zip file, and the workbook index is added once at the end.
+     * A new sheet is started when Excel's row limit is reached.
+     */
+    class XlsxWriter implements AttendanceExportWriter {
+
+        private static final int MAX_ROWS_PER_SHEET = 1_048_576; // Excel limit, incl. header
+
+        private final ZipOutputStream zip;
+        private final Writer xml;
+        private int sheetCount;
+        private int rowInSheet;
+
+        XlsxWriter(OutputStream out) throws IOException {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            this.xml = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+            startSheet();
+        }
+
+        @Override
+        public void writeRow(String date, String employeeName, String status) throws IOException {
+            if (rowInSheet == MAX_ROWS_PER_SHEET) {
+                endSheet();
+                startSheet();
+            }
+            writeXmlRow(date, employeeName, status);
+        }
+
+        private void startSheet() throws IOException {
+            sheetCount++;
+            rowInSheet = 0;
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+            xml.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+            writeXmlRow("Date", "Employee Name", "Status");
+        }
+
+        private void endSheet() throws IOException {
+            xml.write("</sheetData></worksheet>");
+            xml.flush();
+            zip.closeEntry();
+        }
+
+        private void writeXmlRow(String... cells) throws IOException {
+            rowInSheet++;
+            xml.write("<row r=\"" + rowInSheet + "\">");
+            for (String cell : cells) {
+                xml.write("<c t=\"inlineStr\"><is><t>");
+                writeEscaped(cell);
+                xml.write("</t></is></c>");
+            }
+            xml.write("</row>");
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&': xml.write("&amp;"); break;
+                    case '<': xml.write("&lt;"); break;
+                    case '>': xml.write("&gt;"); break;
+                    case '"': xml.write("&quot;"); break;
+                    default:
+                        if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                            xml.write(c);
+                        } // Other control characters are not allowed in XML
+                }
+            }
+        }
+
+        /**
+         * Finishes the last sheet and writes the workbook index parts.
+         */
+        @Override
+        public void close() throws IOException {
+            endSheet();
+
+            StringBuilder types = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                    + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                    + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+            StringBuilder sheets = new StringBuilder();
+            StringBuilder rels = new StringBuilder();
+            for (int i = 1; i <= sheetCount; i++) {
+                types.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                        .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+                sheets.append("<sheet name=\"Attendance").append(sheetCount > 1 ? " " + i : "")
+                        .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+                rels.append("<Relationship Id=\"rId").append(i)
+                        .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                        .append(i).append(".xml\"/>");
+            }
+            types.append("</Types>");
+
+            writeEntry("[Content_Types].xml", types.toString());
+            writeEntry("_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            writeEntry("xl/workbook.xml", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\""
+                    + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+                    + "<sheets>" + sheets + "</sheets></workbook>");
+            writeEntry("xl/_rels/workbook.xml.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + rels + "</Relationships>");
+            zip.close();
+        }
+
+        private void writeEntry(String name, String content) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+}
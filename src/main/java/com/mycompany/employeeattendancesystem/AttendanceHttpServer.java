@@ -0,0 +1,281 @@
+package com.mycompany.employeeattendancesystem;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Headless HTTP API for badge kiosks (no desktop session needed).
+ * Started with "--server" on the MainApp command line.
+ *
+ * The server listens on the loopback address (127.0.0.1) unless another address is
+ * given explicitly, and every request must carry the shared token in the
+ * X-Attendance-Token header (requests without it get 401).
+ *
+ * Endpoints (all responses are JSON):
+ *   POST /attendance   form fields employeeId, status, optional date (yyyy-MM-dd, default today)
+ *   GET  /employees    all employees
+ *   GET  /report       daily report, optional ?date=yyyy-MM-dd (default today)
+ *
+ * Every request is handled on its own virtual thread and goes through
+ * the same AttendanceRepository as the desktop app.
+ */
+public class AttendanceHttpServer implements AutoCloseable {
+
+    /**
+     * Request header that carries the shared token.
+     */
+    public static final String TOKEN_HEADER = "X-Attendance-Token";
+
+    private final AttendanceRepository dbManager;
+    private final HttpServer server;
+    private final byte[] token;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Creates a server on the loopback address only.
+     */
+    public AttendanceHttpServer(AttendanceRepository dbManager, int port, String token) throws IOException {
+        this(dbManager, InetAddress.getLoopbackAddress().getHostAddress(), port, token);
+    }
+
+    /**
+     * Creates a server on 'bindAddress' (e.g. "0.0.0.0" for every network interface).
+     * 'token' is the shared secret kiosks send in the X-Attendance-Token header.
+     */
+    public AttendanceHttpServer(AttendanceRepository dbManager, String bindAddress, int port, String token) throws IOException {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("A server token is required");
+        }
+        this.dbManager = dbManager;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress(bindAddress, port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/attendance", this::handleAttendance);
+        server.createContext("/employees", this::handleEmployees);
+        server.createContext("/report", this::handleReport);
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("Attendance server listening on " + server.getAddress().getHostString()
+                + ":" + server.getAddress().getPort());
+    }
+
+    /**
+     * Stops accepting requests, giving running ones up to a second to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    // ENDPOINTS
+
+    private void handleAttendance(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isAuthorized(exchange)) {
+                sendError(exchange, 401, "Missing or wrong " + TOKEN_HEADER + " header");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use POST");
+                return;
+            }
+
+            Map<String, String> form = parseForm(readBody(exchange));
+            String status = form.get("status");
+            String date = form.getOrDefault("date", LocalDate.now().toString());
+            int employeeId;
+            try {
+                employeeId = Integer.parseInt(form.getOrDefault("employeeId", ""));
+            } catch (NumberFormatException e) {
+                sendError(exchange, 400, "employeeId must be a number");
+                return;
+            }
+            if (!isValidDate(date)) {
+                sendError(exchange, 400, "date must be yyyy-MM-dd");
+                return;
+            }
+            if (!isValidStatus(status)) {
+                sendError(exchange, 400, "status must be one of Present, Absent, On Leave");
+                return;
+            }
+            if (dbManager.getEmployee(employeeId) == null) {
+                sendError(exchange, 404, "Unknown employee " + employeeId);
+                return;
+            }
+
+            if (dbManager.markAttendance(employeeId, date, status)) {
+                sendJson(exchange, 200, "{\"ok\":true}");
+            } else {
+                sendError(exchange, 500, "Failed to mark attendance");
+            }
+        }
+    }
+
+    private void handleEmployees(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isAuthorized(exchange)) {
+                sendError(exchange, 401, "Missing or wrong " + TOKEN_HEADER + " header");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use GET");
+                return;
+            }
+
+            List<Employee> employees = dbManager.getAllEmployees();
+            StringBuilder json = new StringBuilder(employees.size() * 64).append('[');
+            for (int i = 0; i < employees.size(); i++) {
+                Employee emp = employees.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"id\":").append(emp.getId())
+                        .append(",\"name\":").append(quote(emp.getName()))
+                        .append(",\"position\":").append(quote(emp.getPosition()))
+                        .append(",\"email\":").append(quote(emp.getEmail()))
+                        .append('}');
+            }
+            sendJson(exchange, 200, json.append(']').toString());
+        }
+    }
+
+    private void handleReport(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isAuthorized(exchange)) {
+                sendError(exchange, 401, "Missing or wrong " + TOKEN_HEADER + " header");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Use GET");
+                return;
+            }
+
+            Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+            String date = query.getOrDefault("date", LocalDate.now().toString());
+            if (!isValidDate(date)) {
+                sendError(exchange, 400, "date must be yyyy-MM-dd");
+                return;
+            }
+
+            List<ReportRow> rows = dbManager.getAttendanceReport(date);
+            StringBuilder json = new StringBuilder(rows.size() * 48).append('[');
+            for (int i = 0; i < rows.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"name\":").append(quote(rows.get(i).getEmployeeName()))
+                        .append(",\"status\":").append(quote(rows.get(i).getStatus()))
+                        .append('}');
+            }
+            sendJson(exchange, 200, json.append(']').toString());
+        }
+    }
+
+    // HELPERS
+
+    /**
+     * True if the request carries the shared token. MessageDigest.isEqual takes
+     * the same time wherever the bytes differ, so the token cannot be guessed by timing.
+     */
+    private boolean isAuthorized(HttpExchange exchange) {
+        String sent = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        return sent != null && MessageDigest.isEqual(token, sent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isValidStatus(String status) {
+        for (String valid : AttendanceBitmapIndex.STATUSES) {
+            if (valid.equals(status)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isValidDate(String date) {
+        try {
+            LocalDate.parse(date);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Parses "a=1&b=2" (URL-encoded form body or query string).
+     */
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        sendJson(exchange, code, "{\"ok\":false,\"error\":" + quote(message) + "}");
+    }
+
+    private static void sendJson(HttpExchange exchange, int code, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Everything the screens, the HTTP server and the CSV import need from the
+ * attendance data, independent of where it is stored.
+ *
+ * Two engines implement it:
+ *   DatabaseManager                the SQLite database (attendance.db), used normally
+ *   InMemoryAttendanceRepository   plain Java maps, optionally saved to a snapshot file;
+ *                                  for UI tests, benchmarks and large simulated loads
+ *
+ * Both follow the same rules: every method is safe to call from any thread,
+ * dates are 'yyyy-MM-dd' strings, new employees and marks are checked the same way
+ * (DatabaseManager.checkEmployee() and checkMark()), failures are printed to
+ * System.err and reported through the return value (false, -1, an empty list or
+ * page), and committed changes are announced on getChangeBus().
+ */
+public interface AttendanceRepository extends AutoCloseable {
+
+    /**
+     * The longest date range (in days, about ten years) getDailySummary() and
+     * getAttendanceSummary() accept; wider ranges fail.
+     */
+    int MAX_SUMMARY_DAYS = 3660;
+
+    /**
+     * Validates admin login credentials.
+     */
+    boolean validateAdmin(String username, String password);
+
+    /**
+     * Adds a new employee. Fails if the name, position or email is missing,
+     * or the email is already taken.
+     */
+    boolean addEmployee(String name, String position, String email);
+
+    /**
+     * Adds many employees at once (used by the CSV import).
+     * A row whose email already exists (or appears earlier in the batch) is skipped
+     * rather than failing the batch; its email is added to 'duplicateEmails'.
+     * A row with a missing name, position or email fails the whole batch: nothing is added.
+     * Returns the number of employees inserted, or -1 if the batch failed.
+     */
+    int addEmployeesBatch(List<Employee> employees, List<String> duplicateEmails);
+
+    /**
+     * Deletes an employee together with their attendance records.
+     */
+    boolean deleteEmployee(int id);
+
+    /**
+     * The employee with this ID, or null if there is none.
+     */
+    Employee getEmployee(int id);
+
+    /**
+     * All employees ordered by ID.
+     */
+    List<Employee> getAllEmployees();
+
+    /**
+     * All employees for the attendance multi-select list.
+     */
+    List<Employee> getAllEmployeesForAttendance();
+
+    /**
+     * Counts all employees (used to size paged tables).
+     */
+    int countEmployees();
+
+    /**
+     * One page of employees ordered by ID, starting after 'cursor'
+     * (null = from the first employee). See Page for how cursors work.
+     */
+    Page<Employee> getEmployeesPage(String cursor, int limit);
+
+    /**
+     * A cursor that starts an employee-ordered listing (getEmployeesPage,
+     * getAttendanceReportPage) at row 'offset', or null for the first row.
+     */
+    String getEmployeeCursor(int offset);
+
+    /**
+     * Type-ahead search by name or email prefix; fast enough for every keystroke.
+     */
+    List<Employee> findEmployeesByPrefix(String query, int limit);
+
+    /**
+     * Search over name, position and email, best matches first. Every word of the
+     * query must match the start of a word in one of the fields, in any order.
+     */
+    List<Employee> searchEmployees(String query, int limit);
+
+    /**
+     * Marks an employee's attendance, replacing any earlier status for that day.
+     * Fails for a bad date, a status that is not one of AttendanceBitmapIndex.STATUSES,
+     * or an unknown employee.
+     */
+    boolean markAttendance(int employeeId, String date, String status);
+
+    /**
+     * Marks attendance for many employees at once, all or nothing: if any row would
+     * fail markAttendance(), nothing is marked.
+     */
+    boolean markAttendanceBatch(List<AttendanceEntry> entries);
+
+    /**
+     * The attendance report for one day: every employee, with "Not Marked" for
+     * those without a record.
+     */
+    List<ReportRow> getAttendanceReport(String date);
+
+    /**
+     * One page of the attendance report for one day, ordered by employee ID,
+     * starting after 'cursor' (null = from the first employee).
+     */
+    Page<ReportRow> getAttendanceReportPage(String date, String cursor, int limit);
+
+    /**
+     * One page of an employee's attendance history, newest day first,
+     * starting after 'cursor' (null = from the most recent day).
+     */
+    Page<AttendanceEntry> getAttendanceHistory(int employeeId, String cursor, int limit);
+
+    /**
+     * How many days one employee has been present / absent / on leave in total,
+     * in AttendanceBitmapIndex.STATUSES order.
+     */
+    int[] getEmployeeStatusCounts(int employeeId);
+
+    /**
+     * Present / absent / on-leave headcounts for one day, in AttendanceBitmapIndex.STATUSES order.
+     */
+    int[] getDailyStatusCounts(String date);
+
+    /**
+     * Per-day present / absent / on-leave / not-marked counts for 'fromDate'..'toDate'
+     * (inclusive, at most MAX_SUMMARY_DAYS). Days with no marks at all are included
+     * with zero counts.
+     */
+    List<DailySummary> getDailySummary(String fromDate, String toDate);
+
+    /**
+     * Per-employee present / absent / on-leave counts for 'fromDate'..'toDate'
+     * (inclusive, at most MAX_SUMMARY_DAYS), one row for every employee.
+     */
+    List<AttendanceSummary> getAttendanceSummary(String fromDate, String toDate);
+
+    /**
+     * Streams attendance rows for 'fromDate'..'toDate' (inclusive) to an export writer,
+     * ordered by date then employee ID. Only recorded marks are exported, for any range
+     * (unmarked employees have no row). Setting 'cancelled' stops it early.
+     * Returns the number of rows written, or -1 if the export failed.
+     */
+    long exportAttendance(String fromDate, String toDate, AttendanceExportWriter out, AtomicBoolean cancelled);
+
+    /**
+     * Where committed changes are announced (employee added / removed, attendance marked).
+     */
+    DataChangeBus getChangeBus();
+
+    /**
+     * Releases the storage. Called once when the application shuts down.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,49 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * Per-employee totals for a date range, see AttendanceRepository.getAttendanceSummary().
+ */
+public class AttendanceSummary {
+
+    private final int employeeId;
+    private final String employeeName;
+    private final int present;
+    private final int absent;
+    private final int onLeave;
+
+    public AttendanceSummary(int employeeId, String employeeName, int present, int absent, int onLeave) {
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.present = present;
+        this.absent = absent;
+        this.onLeave = onLeave;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public int getAbsent() {
+        return absent;
+    }
+
+    public int getOnLeave() {
+        return onLeave;
+    }
+
+    /**
+     * Present days as a percentage of all marked days (0 if nothing was marked).
+     */
+    public double getAttendancePercentage() {
+        int marked = present + absent + onLeave;
+        return marked == 0 ? 0 : present * 100.0 / marked;
+    }
+}
@@ -0,0 +1,359 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind journal for attendance marks.
+ *
+ * markAttendance() only appends to an in-memory queue and returns.
+ * A single writer thread drains the queue and commits the rows in groups
+ * ("group commit"): a group is committed when it reaches maxBatchSize rows
+ * or when its oldest row has waited maxLatencyMillis, whichever comes first.
+ * This turns many small write transactions into a few large ones, so concurrent
+ * supervisors no longer fight over SQLite's single writer lock.
+ *
+ * Marks are validated before they are queued, so a group should rarely fail
+ * because of its content. If one does, it is written again row by row: rows that
+ * no longer pass the checks, and rows that still fail while others succeed, are
+ * rejected (and logged), never the whole group. If no row can be written at all (the database is unavailable),
+ * the rows are kept and retried, together with new ones, after a short pause.
+ *
+ * close() stops accepting new rows and commits everything still queued.
+ *
+ * Queue depth and commit latency are published over JMX (see Metrics); the
+ * per-row messages are printed only when metrics logging is turned on.
+ */
+public class AttendanceWriteBehind implements AutoCloseable, AttendanceWriteBehindMBean {
+
+    // Marker put in the queue by flush(): commit whatever is pending right away
+    private static final AttendanceEntry FLUSH = new AttendanceEntry(0, null, null);
+    private static final int MAX_COMMIT_ATTEMPTS = 3;
+    // Pause before rows that could not be written are tried again
+    private static final long RETRY_PAUSE_MILLIS = 1000;
+
+    private final DatabaseManager dbManager;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<AttendanceEntry> queue;
+    private final Thread writer;
+
+    // Held while checking 'closed' and queueing, so no row is queued after close() (a
+    // ReentrantLock rather than synchronized, so a blocked virtual thread does not pin its carrier)
+    private final ReentrantLock submitLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    // Rows accepted by submit(), and rows the writer has finished with (written or rejected)
+    private final AtomicLong submitted = new AtomicLong();
+    private final Object processedLock = new Object();
+    private long processed;
+    private boolean stalled; // The last group could not be written at all
+
+    // Statistics
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder commitNanos = new LongAdder();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private final LongAdder rowsLost = new LongAdder();
+    private volatile int rowsAwaitingRetry;
+
+    public AttendanceWriteBehind(DatabaseManager dbManager, int maxBatchSize, long maxLatencyMillis, int queueCapacity) {
+        this.dbManager = dbManager;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        writer = new Thread(this::writeLoop, "attendance-writer");
+        writer.setDaemon(true); // close() (from the shutdown hook) does the final flush
+        writer.start();
+    }
+
+    /**
+     * Queues one attendance mark. Blocks only if the queue is full (back-pressure).
+     * Returns false if the journal has been closed.
+     */
+    public boolean submit(AttendanceEntry entry) {
+        submitLock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            // The writer keeps draining until it sees 'closed', which cannot be set
+            // while we hold the lock, so this never waits on a stopped writer
+            queue.put(entry);
+            submitted.incrementAndGet();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            submitLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every row submitted before this call has been written.
+     * Used before reads, so a report always shows the user's own marks.
+     * Returns early if the writer finds the database unavailable (the rows stay queued).
+     */
+    public void flush() {
+        long target = submitted.get();
+        if (isProcessed(target)) {
+            return;
+        }
+        queue.offer(FLUSH); // Wake the writer so it does not wait out the latency window
+        synchronized (processedLock) {
+            stalled = false; // Only a failure after this request counts
+            while (processed < target && !stalled && writer.isAlive()) {
+                try {
+                    processedLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isProcessed(long target) {
+        synchronized (processedLock) {
+            return processed >= target;
+        }
+    }
+
+    private void writeLoop() {
+        // Rows of the current group; rows that could not be written stay in it for the next round
+        List<AttendanceEntry> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            // Read before draining: once 'closed' is set nothing more is queued (see submit),
+            // so a round that starts closed sees every remaining row
+            boolean closing = closed;
+            try {
+                collect(batch, closing);
+            } catch (InterruptedException e) {
+                // Keep going until the queue is drained; close() decides when to stop
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            rowsAwaitingRetry = batch.size();
+
+            if (closing && queue.isEmpty()) {
+                if (!batch.isEmpty()) {
+                    giveUp(batch);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds queued rows to 'batch' until the group is full or its oldest row is due.
+     */
+    private void collect(List<AttendanceEntry> batch, boolean closing) throws InterruptedException {
+        // 1. Wait for the first new row (after a failure, this is the pause before the retry)
+        long wait = closing ? 0 : batch.isEmpty() ? 100 : RETRY_PAUSE_MILLIS;
+        AttendanceEntry next = queue.poll(wait, TimeUnit.MILLISECONDS);
+
+        // 2. Keep collecting until the group is full or the oldest row is due
+        long deadline = System.nanoTime() + maxLatencyNanos;
+        while (next != null && next != FLUSH) {
+            batch.add(next);
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            // Once closed, take what is already queued without waiting
+            next = closed ? queue.poll() : queue.poll(remaining, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes the group and removes from 'batch' every row that is done with
+     * (written, or rejected as bad). Rows left in 'batch' could not be written.
+     */
+    private void commit(List<AttendanceEntry> batch) {
+        int done = 0;
+        for (int attempt = 1; attempt <= MAX_COMMIT_ATTEMPTS && done == 0; attempt++) {
+            if (write(batch)) {
+                done = batch.size();
+            }
+        }
+
+        if (done == 0) {
+            // The group keeps failing: write it row by row, so one bad row cannot sink the others
+            List<AttendanceEntry> failed = new ArrayList<>();
+            boolean anyWritten = false;
+            for (AttendanceEntry entry : batch) {
+                try {
+                    // Checked again: e.g. the employee may since have been deleted by another process
+                    dbManager.checkMark(entry.getEmployeeId(), entry.getDate(), entry.getStatus());
+                } catch (SQLException e) {
+                    reject(entry, e.getMessage());
+                    done++;
+                    continue;
+                }
+                if (write(List.of(entry))) {
+                    anyWritten = true;
+                    done++;
+                } else {
+                    failed.add(entry);
+                }
+            }
+            if (anyWritten || failed.isEmpty()) {
+                // The database works, so the rows that still fail are bad: reject just those
+                for (AttendanceEntry entry : failed) {
+                    reject(entry, "write failed");
+                }
+                done += failed.size();
+                failed.clear();
+            }
+            batch.retainAll(failed);
+        } else {
+            batch.clear();
+        }
+
+        if (!batch.isEmpty()) {
+            Metrics.log("Write-behind: could not write " + batch.size()
+                    + " attendance rows, will retry in " + RETRY_PAUSE_MILLIS + " ms");
+        }
+        synchronized (processedLock) {
+            processed += done;
+            stalled = !batch.isEmpty();
+            processedLock.notifyAll();
+        }
+    }
+
+    private void reject(AttendanceEntry entry, String reason) {
+        Metrics.log("Write-behind: rejected attendance row " + describe(entry) + " (" + reason + ")");
+        rowsRejected.increment();
+    }
+
+    /**
+     * Writes rows in one transaction and records the commit time. Returns false if it failed.
+     */
+    private boolean write(List<AttendanceEntry> rows) {
+        long start = System.nanoTime();
+        if (!dbManager.markAttendanceBatch(rows)) {
+            return false;
+        }
+        long nanos = System.nanoTime() - start;
+        commitCount.increment();
+        commitNanos.add(nanos);
+        maxCommitNanos.accumulateAndGet(nanos, Math::max);
+        rowsWritten.add(rows.size());
+        return true;
+    }
+
+    /**
+     * At shutdown, rows that still cannot be written are listed in full with metrics
+     * logging on, so they can be re-entered by hand. Losing rows is always reported.
+     */
+    private void giveUp(List<AttendanceEntry> batch) {
+        System.err.println("Write-behind: " + batch.size() + " attendance rows could not be written at shutdown"
+                + " (run with -Dattendance.metricsLogSeconds to list them)");
+        for (AttendanceEntry entry : batch) {
+            Metrics.log("Write-behind: not written at shutdown: " + describe(entry));
+        }
+        rowsLost.add(batch.size());
+        synchronized (processedLock) {
+            processed += batch.size();
+            processedLock.notifyAll();
+        }
+        batch.clear();
+        rowsAwaitingRetry = 0;
+    }
+
+    private static String describe(AttendanceEntry entry) {
+        return "employee " + entry.getEmployeeId() + ", " + entry.getDate() + ", " + entry.getStatus();
+    }
+
+    /**
+     * Stops accepting rows, commits everything still queued and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        submitLock.lock();
+        try {
+            closed = true;
+        } finally {
+            submitLock.unlock();
+        }
+        queue.offer(FLUSH); // Wake the writer so it does not wait out the latency window
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    @Override
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    /**
+     * Rows that failed on their own while the rest of their group was written.
+     */
+    @Override
+    public long getRowsRejected() {
+        return rowsRejected.sum();
+    }
+
+    /**
+     * Rows that could not be written before shutdown.
+     */
+    @Override
+    public long getRowsLost() {
+        return rowsLost.sum();
+    }
+
+    /**
+     * Rows kept for another try because the database was unavailable.
+     */
+    @Override
+    public int getRowsAwaitingRetry() {
+        return rowsAwaitingRetry;
+    }
+
+    @Override
+    public double getAverageCommitMillis() {
+        long count = commitCount.sum();
+        return count == 0 ? 0 : commitNanos.sum() / 1_000_000.0 / count;
+    }
+
+    @Override
+    public double getMaxCommitMillis() {
+        return maxCommitNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * A one-line summary of queue depth and commit latency, used for logging.
+     */
+    public String getStats() {
+        return String.format("Write-behind: queue depth=%d, commits=%d, rows written=%d, rows rejected=%d,"
+                + " awaiting retry=%d, lost=%d, avg commit=%.2f ms, max commit=%.2f ms",
+                getQueueDepth(), getCommitCount(), getRowsWritten(), getRowsRejected(),
+                getRowsAwaitingRetry(), getRowsLost(),
+                getAverageCommitMillis(), getMaxCommitMillis());
+    }
+}
@@ -0,0 +1,24 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * JMX view of the write-behind journal: how many marks are queued, how many
+ * group commits it has made and how long they took.
+ */
+public interface AttendanceWriteBehindMBean {
+
+    int getQueueDepth();
+
+    long getCommitCount();
+
+    long getRowsWritten();
+
+    long getRowsRejected();
+
+    long getRowsLost();
+
+    int getRowsAwaitingRetry();
+
+    double getAverageCommitMillis();
+
+    double getMaxCommitMillis();
+}
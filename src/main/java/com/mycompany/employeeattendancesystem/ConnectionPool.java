@@ -0,0 +1,436 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small, fixed-size pool of long-lived JDBC connections.
+ * Connections are opened lazily (up to the pool size) and then kept open,
+ * so SQLite does not have to re-open the file and re-read the schema on every call.
+ *
+ * The connections handed out are lightweight wrappers: calling close() on them
+ * returns the underlying connection to the pool instead of closing it.
+ * This means existing "try (Connection conn = ...)" code works unchanged.
+ *
+ * Each connection also keeps its prepared statements open (see StatementCache),
+ * so the same SQL is only parsed and planned once per connection.
+ *
+ * Statements and result sets are wrapped as well, so that an SQLException from
+ * any of them (not just from the connection itself) gets the connection
+ * validated before it is handed out again.
+ */
+public class ConnectionPool implements AutoCloseable, ConnectionPoolMBean {
+
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    // Idle connections are only validated (a round trip) after sitting unused this long
+    private static final long VALIDATE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final String url;
+    private final Properties properties;
+    private final int size;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<Connection> idle = new ConcurrentLinkedDeque<>();
+    // When each idle connection was returned; missing = validate it before the next use
+    private final Map<Connection, Long> idleSince = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    // Prepared statements per physical connection (none if statementCacheSize is 0)
+    private final int statementCacheSize;
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+
+    // Connection-acquire latency statistics
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder validationCount = new LongAdder();
+
+    public ConnectionPool(String url, int size) {
+        this(url, size, new Properties());
+    }
+
+    /**
+     * Creates a pool whose connections are opened with driver-specific properties
+     * (e.g. read-only open mode for SQLite).
+     */
+    public ConnectionPool(String url, int size, Properties properties) {
+        this(url, size, properties, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a pool that caches up to 'statementCacheSize' prepared statements
+     * per connection (0 turns the statement cache off).
+     */
+    public ConnectionPool(String url, int size, Properties properties, int statementCacheSize) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.url = url;
+        this.properties = properties;
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting if all connections are in use.
+     * The returned connection must be closed to give it back to the pool.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new SQLException("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            Connection physical = takeHealthyConnection();
+            recordAcquire(System.nanoTime() - start);
+            return wrap(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Reuses an idle connection if it is still healthy, otherwise opens a new one.
+     */
+    private Connection takeHealthyConnection() throws SQLException {
+        Connection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            Long since = idleSince.remove(physical);
+            // A connection returned moments ago after clean use is trusted without a round trip
+            boolean validate = since == null || System.nanoTime() - since > VALIDATE_AFTER_IDLE_NANOS;
+            if (isHealthy(physical, validate)) {
+                return physical;
+            }
+            closeQuietly(physical); // Broken connection, drop it and try the next one
+        }
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private boolean isHealthy(Connection physical, boolean validate) {
+        if (validate) {
+            validationCount.increment();
+        }
+        try {
+            return !physical.isClosed() && (!validate || physical.isValid(VALIDATION_TIMEOUT_SECONDS));
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called when a borrowed connection is closed by the caller.
+     * 'failed' = a call on the connection threw an SQLException, so it is validated before its next use.
+     */
+    private void release(Connection physical, boolean failed) {
+        try {
+            // Never hand out a connection with a half-finished transaction
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (closed) {
+                closeQuietly(physical);
+            } else {
+                if (!failed) {
+                    idleSince.put(physical, System.nanoTime());
+                }
+                idle.offerFirst(physical);
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void recordAcquire(long nanos) {
+        acquireCount.increment();
+        acquireNanos.add(nanos);
+        maxAcquireNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private Connection wrap(Connection physical) {
+        PooledConnectionHandler handler = new PooledConnectionHandler(physical);
+        handler.proxy = (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                handler);
+        return handler.proxy;
+    }
+
+    private void closeQuietly(Connection conn) {
+        idleSince.remove(conn);
+        StatementCache statements = statementCaches.remove(conn);
+        if (statements != null) {
+            statements.closeAll();
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes all idle connections. Connections that are still borrowed
+     * are closed as soon as they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Connection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            closeQuietly(physical);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return size - permits.availablePermits();
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    @Override
+    public double getAverageAcquireMicros() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0 : acquireNanos.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public double getMaxAcquireMicros() {
+        return maxAcquireNanos.get() / 1000.0;
+    }
+
+    @Override
+    public long getValidationCount() {
+        return validationCount.sum();
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return statementHits.sum();
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return statementMisses.sum();
+    }
+
+    @Override
+    public double getStatementCacheHitRate() {
+        long hits = statementHits.sum();
+        long total = hits + statementMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public int getCachedStatementCount() {
+        int count = 0;
+        for (StatementCache statements : statementCaches.values()) {
+            count += statements.size();
+        }
+        return count;
+    }
+
+    /**
+     * A one-line summary of connection-acquire latency, used for logging.
+     */
+    public String getAcquireStats() {
+        return String.format("Connection pool: size=%d, active=%d, acquires=%d, avg acquire=%.1f us, max acquire=%.1f us,"
+                + " validations=%d, statement cache hit rate=%.1f%% (%d cached)",
+                getSize(), getActiveCount(), getAcquireCount(), getAverageAcquireMicros(), getMaxAcquireMicros(),
+                getValidationCount(), getStatementCacheHitRate() * 100, getCachedStatementCount());
+    }
+
+    /**
+     * Forwards every call to the physical connection, except close(),
+     * which hands the connection back to the pool.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+
+        private final Connection physical;
+        private final StatementCache statements;
+        private Connection proxy; // What the caller holds; statements report it as their connection
+        private boolean returned;
+        // An SQLException came out of this connection or one of its statements / result sets
+        private volatile boolean failed;
+
+        PooledConnectionHandler(Connection physical) {
+            this.physical = physical;
+            this.statements = statementCacheSize <= 0 ? null
+                    : statementCaches.computeIfAbsent(physical,
+                            conn -> new StatementCache(conn, statementCacheSize, statementHits, statementMisses));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical, failed);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (statements != null && method.getName().equals("prepareStatement") && StatementCache.isCacheable(args)) {
+                try {
+                    return statements.prepare((String) args[0],
+                            args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS,
+                            this.proxy, this::markFailed);
+                } catch (SQLException e) {
+                    failed = true;
+                    throw e;
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException) {
+                    failed = true;
+                }
+                throw e.getCause();
+            }
+            // createStatement(), prepareStatement(sql, columns...), prepareCall(...)
+            if (result instanceof Statement) {
+                return track(result, method.getReturnType(), this.proxy, null, this::markFailed);
+            }
+            return result;
+        }
+
+        private void markFailed() {
+            failed = true;
+        }
+    }
+
+    /**
+     * Wraps a statement (or a result set, with 'statement' = the wrapped statement
+     * it came from) of the pooled connection 'owner'; see TrackingHandler.
+     */
+    static Object track(Object target, Class<?> type, Connection owner, Object statement, Runnable onError) {
+        return Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{type},
+                new TrackingHandler(target, owner, statement, onError));
+    }
+
+    /**
+     * Wraps a result set returned by one of a statement's methods
+     * (executeQuery, getResultSet, getGeneratedKeys); anything else is returned as is.
+     */
+    static Object trackResult(Object result, Method method, Connection owner, Object statement, Runnable onError) {
+        if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+            return track(result, ResultSet.class, owner, statement, onError);
+        }
+        return result;
+    }
+
+    /**
+     * Forwards every call to a statement or result set of a pooled connection.
+     * An SQLException runs 'onError' (the connection is then validated before its next
+     * use), and getConnection() / getStatement() return the wrappers the caller holds,
+     * so the real connection never escapes the pool.
+     */
+    private static class TrackingHandler implements InvocationHandler {
+
+        private final Object target;
+        private final Connection owner;
+        private final Object statement; // For a result set: the wrapped statement it came from
+        private final Runnable onError;
+
+        TrackingHandler(Object target, Connection owner, Object statement, Runnable onError) {
+            this.target = target;
+            this.owner = owner;
+            this.statement = statement;
+            this.onError = onError;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Tracked[" + target + "]";
+                case "getConnection":
+                    if (statement == null && (args == null || args.length == 0)) {
+                        return owner;
+                    }
+                    break;
+                case "getStatement":
+                    if (statement != null && (args == null || args.length == 0)) {
+                        return statement;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException) {
+                    onError.run();
+                }
+                throw e.getCause();
+            }
+            return statement == null ? trackResult(result, method, owner, proxy, onError) : result;
+        }
+    }
+}
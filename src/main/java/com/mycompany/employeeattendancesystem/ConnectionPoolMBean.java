@@ -0,0 +1,36 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * JMX view of a ConnectionPool: its size, how many connections are
+ * borrowed right now, how long callers wait to get one, and how often
+ * prepared statements are reused from the statement cache.
+ */
+public interface ConnectionPoolMBean {
+
+    int getSize();
+
+    int getActiveCount();
+
+    long getAcquireCount();
+
+    double getAverageAcquireMicros();
+
+    double getMaxAcquireMicros();
+
+    /**
+     * Round trips made to check a connection before handing it out
+     * (after it sat idle for a while, or after an SQL error on it).
+     */
+    long getValidationCount();
+
+    long getStatementCacheHits();
+
+    long getStatementCacheMisses();
+
+    /**
+     * Share of prepareStatement() calls served from the statement cache (0..1).
+     */
+    double getStatementCacheHitRate();
+
+    int getCachedStatementCount();
+}
@@ -0,0 +1,41 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * Counts for one day, see AttendanceRepository.getDailySummary().
+ */
+public class DailySummary {
+
+    private final String date;
+    private final int present;
+    private final int absent;
+    private final int onLeave;
+    private final int notMarked;
+
+    public DailySummary(String date, int present, int absent, int onLeave, int notMarked) {
+        this.date = date;
+        this.present = present;
+        this.absent = absent;
+        this.onLeave = onLeave;
+        this.notMarked = notMarked;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public int getAbsent() {
+        return absent;
+    }
+
+    public int getOnLeave() {
+        return onLeave;
+    }
+
+    public int getNotMarked() {
+        return notMarked;
+    }
+}
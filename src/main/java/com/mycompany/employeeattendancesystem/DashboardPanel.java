@@ -3,7 +3,6 @@ package com.mycompany.employeeattendancesystem;
 
 import static com.mycompany.employeeattendancesystem.MainApp.*;
 
-import com.mycompany.employeeattendancesystem.DatabaseManager.Employee;
 import java.awt.BorderLayout;
 import java.awt.CardLayout;
 import java.awt.Dimension;
@@ -13,26 +12,51 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
+import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerDateModel;
 import javax.swing.JTabbedPane;
 import javax.swing.JTable; 
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.plaf.basic.BasicFileChooserUI;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * The main Dashboard panel.
@@ -41,33 +65,82 @@ import java.awt.event.ActionEvent;
  */
 public class DashboardPanel extends JPanel {
 
-    private DatabaseManager dbManager;
+    // Paged tables: rows per page and how many pages to keep in memory
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_CACHED_PAGES = 20;
+    // How many matches the type-ahead employee search shows
+    private static final int MAX_SEARCH_RESULTS = 20;
+    // Employee Management search box: wait this long after the last keystroke, show this many matches
+    private static final int FILTER_DEBOUNCE_MILLIS = 250;
+    private static final int MAX_FILTER_RESULTS = 1000;
+    // Bigger bursts of changes (e.g. a CSV import) reload the table instead of editing it row by row
+    private static final int MAX_INCREMENTAL_CHANGES = PAGE_SIZE;
+
+    // Time from starting a refresh until its data is on screen (see Metrics)
+    private static final OperationMetrics REFRESH_EMPLOYEES = Metrics.operation("refreshEmployeeManagementTab");
+    private static final OperationMetrics REFRESH_ATTENDANCE = Metrics.operation("refreshAttendanceTab");
+    private static final OperationMetrics REFRESH_REPORT = Metrics.operation("refreshReportTab");
+    private static final OperationMetrics REFRESH_SUMMARY = Metrics.operation("refreshSummaryTab");
+
+    private AsyncDatabaseManager dbManager;
+
+    // Builders for tabs that have not been opened yet, by tab index (null once built)
+    private final List<Supplier<CompletableFuture<Void>>> pendingTabs = new ArrayList<>();
+    private final CompletableFuture<Void> firstTabLoaded = new CompletableFuture<>();
 
     //  Employee Management Tab 
     private JTable employeeTable;
-    private DefaultTableModel employeeTableModel;
+    private PagedTableModel<Employee> employeeTableModel;
+    private JTextField employeeFilterField;
+    private Timer employeeFilterTimer;
+    private CompletableFuture<List<Employee>> pendingEmployeeFilter; // Search still running, if any
+    private boolean employeeFilterActive; // Table shows search results instead of all employees
     private JTextField nameField;
     private JTextField positionField;
     private JTextField emailField;
+    private JButton importButton;
+    private JButton cancelImportButton;
+    private EmployeeCsvImporter runningImport; // Set while an import is running
+    private JProgressBar importProgressBar;
 
     //  Mark Attendance Tab 
-    private JComboBox<Employee> employeeComboBox;
+    private JTextField employeeSearchField;
+    private JList<Employee> searchResultList;
+    private DefaultListModel<Employee> searchResultModel;
     private JComboBox<String> statusComboBox;
+    private JList<Employee> employeeList;
+    private DefaultListModel<Employee> employeeListModel;
     private JLabel attendanceDateLabel;
     private String todayDate;
 
     // Attendance Report Tab 
     private JTable reportTable;
-    private DefaultTableModel reportTableModel;
+    private PagedTableModel<ReportRow> reportTableModel;
     private JLabel reportDateLabel;
-
-    public DashboardPanel(DatabaseManager dbManager) {
+    private JLabel reportSummaryLabel;
+    private JSpinner exportFromSpinner;
+    private JSpinner exportToSpinner;
+    private JButton exportButton;
+    private JButton cancelExportButton;
+    private AtomicBoolean exportCancelled; // Set while an export is running
+
+    // Summary Report Tab
+    private JSpinner summaryFromSpinner;
+    private JSpinner summaryToSpinner;
+    private PagedTableModel<AttendanceSummary> summaryTableModel;
+    private JButton generateSummaryButton;
+
+    public DashboardPanel(AsyncDatabaseManager dbManager) {
         this.dbManager = dbManager;
 
         // Get today's date in SQL-friendly format (YYYY-MM-DD)
         this.todayDate = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
 
         initComponents();
+
+        // Keep the tables in step with every committed change, row by row
+        // (the panel is created after login, so the database is open by now)
+        dbManager.getRepository().getChangeBus().subscribe(this::applyDataChanges);
     }
 
     private void initComponents() {
@@ -94,17 +167,52 @@ public class DashboardPanel extends JPanel {
         // Add padding around the content of the tabs
         tabbedPane.setBorder(new EmptyBorder(10, 20, 20, 20));
 
-        // Create the three tabs
-        tabbedPane.addTab("Employee Management", createEmployeeManagementTab());
-        tabbedPane.addTab("Mark Attendance", createMarkAttendanceTab());
-        tabbedPane.addTab("Attendance Report", createAttendanceReportTab());
+        // Create the tabs. Each one is only built, and its data loaded,
+        // the first time it is selected
+        addLazyTab(tabbedPane, "Employee Management", this::createEmployeeManagementTab, this::refreshEmployeeManagementTab);
+        addLazyTab(tabbedPane, "Mark Attendance", this::createMarkAttendanceTab, this::refreshAttendanceTab);
+        addLazyTab(tabbedPane, "Attendance Report", this::createAttendanceReportTab, this::refreshReportTab);
+        addLazyTab(tabbedPane, "Summary Report", this::createSummaryReportTab, this::refreshSummaryTab);
+        tabbedPane.addChangeListener(e -> buildTab(tabbedPane.getSelectedIndex()));
 
         add(tabbedPane, BorderLayout.CENTER);
 
-        // Load initial data 
-        refreshEmployeeManagementTab();
-        refreshAttendanceTab();
-        refreshReportTab();
+        // Load initial data (first tab only)
+        buildTab(0).whenComplete((result, error) -> firstTabLoaded.complete(null));
+    }
+
+    /**
+     * Adds an empty placeholder tab; 'builder' creates its content and 'loader'
+     * fills it with data, both on first selection (see buildTab).
+     */
+    private void addLazyTab(JTabbedPane tabbedPane, String title, Supplier<JPanel> builder,
+            Supplier<CompletableFuture<Void>> loader) {
+        JPanel placeholder = new JPanel(new BorderLayout());
+        placeholder.setBackground(COLOR_BACKGROUND);
+        tabbedPane.addTab(title, placeholder);
+        pendingTabs.add(() -> {
+            placeholder.add(builder.get(), BorderLayout.CENTER);
+            placeholder.revalidate();
+            return loader.get();
+        });
+    }
+
+    /**
+     * Builds a tab if it has not been built yet.
+     * The returned future completes once its data is shown.
+     */
+    private CompletableFuture<Void> buildTab(int index) {
+        if (index < 0 || pendingTabs.get(index) == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return pendingTabs.set(index, null).get();
+    }
+
+    /**
+     * Completes once the first (initially selected) tab shows its data.
+     */
+    public CompletableFuture<Void> whenFirstTabLoaded() {
+        return firstTabLoaded;
     }
 
    
@@ -186,6 +294,28 @@ public class DashboardPanel extends JPanel {
         gbc.fill = GridBagConstraints.NONE;
         formPanel.add(addButton, gbc);
 
+        // Bulk import from a CSV file (name, position, email columns)
+        importButton = new JButton("Import CSV...");
+        importButton.setBackground(COLOR_ACCENT); // Vista Blue
+        importButton.setForeground(Color.WHITE);
+        importButton.setFont(new Font("Inter", Font.BOLD, 14));
+        gbc.gridy = 5;
+        formPanel.add(importButton, gbc);
+
+        importProgressBar = new JProgressBar(0, 100);
+        importProgressBar.setStringPainted(true);
+        importProgressBar.setVisible(false); // Only shown while importing
+        gbc.gridy = 6;
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        formPanel.add(importProgressBar, gbc);
+
+        cancelImportButton = new JButton("Cancel Import");
+        cancelImportButton.setFont(new Font("Inter", Font.BOLD, 14));
+        cancelImportButton.setVisible(false); // Only shown while importing
+        gbc.gridy = 7;
+        gbc.fill = GridBagConstraints.NONE;
+        formPanel.add(cancelImportButton, gbc);
+
         // Right Panel: Employee List 
         JPanel tablePanel = new JPanel(new BorderLayout());
         tablePanel.setBackground(COLOR_BACKGROUND_PANEL); // White
@@ -195,17 +325,50 @@ public class DashboardPanel extends JPanel {
         JLabel tableTitle = new JLabel("Current Employees");
         tableTitle.setFont(new Font("Inter", Font.BOLD, 18));
         tableTitle.setForeground(COLOR_PRIMARY);
-        tableTitle.setBorder(new EmptyBorder(0, 0, 10, 0));
-        tablePanel.add(tableTitle, BorderLayout.NORTH);
 
-        // Table
-        String[] columnNames = {"ID", "Name", "Position", "Email"};
-        employeeTableModel = new DefaultTableModel(columnNames, 0) {
+        // Live search over name, position and email (full-text index, see searchEmployees)
+        employeeFilterField = new JTextField(24);
+        employeeFilterField.setFont(new Font("Inter", Font.PLAIN, 14));
+        employeeFilterField.putClientProperty("JTextField.placeholderText", "Search name, position or email...");
+        employeeFilterField.putClientProperty("JTextField.showClearButton", true);
+
+        JPanel tableHeader = new JPanel(new BorderLayout(10, 0));
+        tableHeader.setOpaque(false);
+        tableHeader.setBorder(new EmptyBorder(0, 0, 10, 0));
+        tableHeader.add(tableTitle, BorderLayout.WEST);
+        tableHeader.add(employeeFilterField, BorderLayout.EAST);
+        tablePanel.add(tableHeader, BorderLayout.NORTH);
+
+        // Debounce: the search runs once typing pauses, not on every keystroke
+        employeeFilterTimer = new Timer(FILTER_DEBOUNCE_MILLIS, e -> reloadEmployeeTable());
+        employeeFilterTimer.setRepeats(false);
+        employeeFilterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                employeeFilterTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                employeeFilterTimer.restart();
+            }
+
             @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table cells non-editable
+            public void changedUpdate(DocumentEvent e) {
+                employeeFilterTimer.restart();
+            }
+        });
+
+        // Table (rows are loaded page by page as the user scrolls)
+        String[] columnNames = {"ID", "Name", "Position", "Email"};
+        employeeTableModel = new PagedTableModel<>(columnNames, (emp, column) -> {
+            switch (column) {
+                case 0: return emp.getId();
+                case 1: return emp.getName();
+                case 2: return emp.getPosition();
+                default: return emp.getEmail();
             }
-        };
+        }, dbManager, PAGE_SIZE, MAX_CACHED_PAGES);
         employeeTable = new JTable(employeeTableModel);
         setupTableStyle(employeeTable);
         
@@ -223,8 +386,19 @@ public class DashboardPanel extends JPanel {
         deleteButton.setBackground(COLOR_ERROR); // Red
         deleteButton.setForeground(Color.WHITE);
         deleteButton.setFont(new Font("Inter", Font.BOLD, 14));
-        deleteButton.setBorder(new EmptyBorder(10, 0, 0, 0));
-        tablePanel.add(deleteButton, BorderLayout.SOUTH);
+
+        // History Button (double-clicking a row does the same)
+        JButton historyButton = new JButton("View Attendance History");
+        historyButton.setBackground(COLOR_ACCENT); // Vista Blue
+        historyButton.setForeground(Color.WHITE);
+        historyButton.setFont(new Font("Inter", Font.BOLD, 14));
+
+        JPanel tableButtonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        tableButtonPanel.setOpaque(false);
+        tableButtonPanel.setBorder(new EmptyBorder(10, 0, 0, 0));
+        tableButtonPanel.add(historyButton);
+        tableButtonPanel.add(deleteButton);
+        tablePanel.add(tableButtonPanel, BorderLayout.SOUTH);
 
         // Add sub-panels to main panel
         panel.add(formPanel, BorderLayout.WEST);
@@ -232,7 +406,23 @@ public class DashboardPanel extends JPanel {
 
         // Action Listeners for this tab
         addButton.addActionListener(this::addEmployee);
+        importButton.addActionListener(this::importEmployees);
+        cancelImportButton.addActionListener(e -> {
+            if (runningImport != null) {
+                runningImport.cancel();
+                cancelImportButton.setEnabled(false); // Stops after the current batch
+            }
+        });
         deleteButton.addActionListener(this::deleteEmployee);
+        historyButton.addActionListener(e -> showEmployeeHistory());
+        employeeTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && employeeTable.rowAtPoint(e.getPoint()) >= 0) {
+                    showEmployeeHistory();
+                }
+            }
+        });
 
         return panel;
     }
@@ -279,13 +469,54 @@ public class DashboardPanel extends JPanel {
         gbc.fill = GridBagConstraints.NONE;
         contentBox.add(new JLabel("Select Employee:"), gbc);
 
-        // Employee ComboBox
-        employeeComboBox = new JComboBox<>();
-        employeeComboBox.setFont(new Font("Inter", Font.PLAIN, 14));
+        // Employee search: type part of a name or email, then pick a match
+        employeeSearchField = new JTextField(20);
+        employeeSearchField.setFont(new Font("Inter", Font.PLAIN, 14));
+        employeeSearchField.putClientProperty("JTextField.placeholderText", "Type a name or email...");
+        searchResultModel = new DefaultListModel<>();
+        searchResultList = new JList<>(searchResultModel);
+        searchResultList.setFont(new Font("Inter", Font.PLAIN, 14));
+        searchResultList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        searchResultList.setVisibleRowCount(5);
+        JScrollPane searchScrollPane = new JScrollPane(searchResultList);
+        searchScrollPane.setBorder(BorderFactory.createLineBorder(COLOR_ACCENT));
+
+        JPanel searchPanel = new JPanel(new BorderLayout(0, 4));
+        searchPanel.setOpaque(false);
+        searchPanel.add(employeeSearchField, BorderLayout.NORTH);
+        searchPanel.add(searchScrollPane, BorderLayout.CENTER);
         gbc.gridx = 1;
         gbc.anchor = GridBagConstraints.LINE_START;
         gbc.fill = GridBagConstraints.HORIZONTAL;
-        contentBox.add(employeeComboBox, gbc);
+        contentBox.add(searchPanel, gbc);
+
+        // Update the matches on every keystroke (the search is in-memory)
+        employeeSearchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                updateEmployeeSearch();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                updateEmployeeSearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                updateEmployeeSearch();
+            }
+        });
+        // Enter or the down arrow moves from the search box into the matches
+        employeeSearchField.addActionListener(e -> searchResultList.requestFocusInWindow());
+        employeeSearchField.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_DOWN && !searchResultModel.isEmpty()) {
+                    searchResultList.requestFocusInWindow();
+                }
+            }
+        });
 
         // Status Label
         gbc.gridx = 0;
@@ -316,6 +547,40 @@ public class DashboardPanel extends JPanel {
         gbc.fill = GridBagConstraints.NONE;
         contentBox.add(submitButton, gbc);
 
+        // Multi-select list for marking many employees at once
+        JLabel batchLabel = new JLabel("Or select several employees (Ctrl/Shift-click):");
+        batchLabel.setFont(new Font("Inter", Font.PLAIN, 14));
+        gbc.gridy = 5;
+        gbc.anchor = GridBagConstraints.LINE_START;
+        contentBox.add(batchLabel, gbc);
+
+        employeeListModel = new DefaultListModel<>();
+        employeeList = new JList<>(employeeListModel);
+        employeeList.setFont(new Font("Inter", Font.PLAIN, 14));
+        employeeList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        JScrollPane listScrollPane = new JScrollPane(employeeList);
+        listScrollPane.setBorder(BorderFactory.createLineBorder(COLOR_ACCENT));
+        listScrollPane.setPreferredSize(new Dimension(360, 180));
+        gbc.gridy = 6;
+        gbc.fill = GridBagConstraints.BOTH;
+        contentBox.add(listScrollPane, gbc);
+
+        // One button per status
+        JPanel batchButtonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        batchButtonPanel.setOpaque(false);
+        for (String status : statuses) {
+            JButton batchButton = new JButton("Mark Selected as " + status);
+            batchButton.setBackground(COLOR_ACCENT);
+            batchButton.setForeground(Color.WHITE);
+            batchButton.setFont(new Font("Inter", Font.BOLD, 12));
+            batchButton.addActionListener(e -> markSelectedAttendance(status));
+            batchButtonPanel.add(batchButton);
+        }
+        gbc.gridy = 7;
+        gbc.anchor = GridBagConstraints.CENTER;
+        gbc.fill = GridBagConstraints.NONE;
+        contentBox.add(batchButtonPanel, gbc);
+
         // Add content box to the main panel
         panel.add(contentBox, new GridBagConstraints());
         
@@ -348,19 +613,20 @@ public class DashboardPanel extends JPanel {
         reportDateLabel = new JLabel("| Date: " + todayDate);
         reportDateLabel.setFont(new Font("Inter", Font.PLAIN, 16));
         headerPanel.add(reportDateLabel);
-        
-     
+
+        // Headcounts for the day (from the attendance bitmap index)
+        reportSummaryLabel = new JLabel();
+        reportSummaryLabel.setFont(new Font("Inter", Font.PLAIN, 14));
+        reportSummaryLabel.setForeground(COLOR_TEXT);
+        headerPanel.add(reportSummaryLabel);
 
         panel.add(headerPanel, BorderLayout.NORTH);
 
-        //  Report Table 
+        //  Report Table (paged, like the employee table)
         String[] columnNames = {"Employee Name", "Status"};
-        reportTableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Non-editable
-            }
-        };
+        reportTableModel = new PagedTableModel<>(columnNames,
+                (row, column) -> column == 0 ? row.getEmployeeName() : row.getStatus(),
+                dbManager, PAGE_SIZE, MAX_CACHED_PAGES);
         reportTable = new JTable(reportTableModel);
         setupTableStyle(reportTable);
 
@@ -378,10 +644,106 @@ public class DashboardPanel extends JPanel {
         buttonPanel.setOpaque(false);
         buttonPanel.setBorder(new EmptyBorder(10, 0, 0, 0));
         buttonPanel.add(refreshButton);
+
+        // Export (CSV or XLSX) of the recorded marks for a date range; runs in the background and can be cancelled
+        exportFromSpinner = createDateSpinner(LocalDate.now());
+        exportToSpinner = createDateSpinner(LocalDate.now());
+        buttonPanel.add(new JLabel("   Export from:"));
+        buttonPanel.add(exportFromSpinner);
+        buttonPanel.add(new JLabel("to:"));
+        buttonPanel.add(exportToSpinner);
+
+        exportButton = new JButton("Export...");
+        exportButton.setBackground(COLOR_PRIMARY);
+        exportButton.setForeground(Color.WHITE);
+        exportButton.setFont(new Font("Inter", Font.BOLD, 14));
+        buttonPanel.add(exportButton);
+
+        cancelExportButton = new JButton("Cancel Export");
+        cancelExportButton.setFont(new Font("Inter", Font.BOLD, 14));
+        cancelExportButton.setEnabled(false);
+        buttonPanel.add(cancelExportButton);
+
         panel.add(buttonPanel, BorderLayout.SOUTH);
         
         //Action Listeners for this tab
         refreshButton.addActionListener(e -> refreshReportTab());
+        exportButton.addActionListener(this::exportAttendance);
+        cancelExportButton.addActionListener(e -> {
+            if (exportCancelled != null) {
+                exportCancelled.set(true);
+            }
+        });
+
+        return panel;
+    }
+
+
+    // TAB 4: SUMMARY REPORT (date range)
+
+    private JPanel createSummaryReportTab() {
+        JPanel panel = new JPanel(new BorderLayout(20, 20));
+        panel.setBackground(COLOR_BACKGROUND_PANEL); // White
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+        panel.putClientProperty("FlatLaf.style", "arc: 12");
+
+        // Header Panel (date range picker)
+        JPanel headerPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+        headerPanel.setOpaque(false);
+
+        JLabel titleLabel = new JLabel("Attendance Summary");
+        titleLabel.setFont(new Font("Inter", Font.BOLD, 18));
+        titleLabel.setForeground(COLOR_PRIMARY);
+        headerPanel.add(titleLabel);
+
+        // Default range: the current month so far
+        LocalDate today = LocalDate.now();
+        summaryFromSpinner = createDateSpinner(today.withDayOfMonth(1));
+        summaryToSpinner = createDateSpinner(today);
+
+        headerPanel.add(new JLabel("From:"));
+        headerPanel.add(summaryFromSpinner);
+        headerPanel.add(new JLabel("To:"));
+        headerPanel.add(summaryToSpinner);
+
+        JButton thisMonthButton = new JButton("This Month");
+        thisMonthButton.setFont(new Font("Inter", Font.PLAIN, 14));
+        headerPanel.add(thisMonthButton);
+
+        generateSummaryButton = new JButton("Generate");
+        generateSummaryButton.setBackground(COLOR_PRIMARY);
+        generateSummaryButton.setForeground(Color.WHITE);
+        generateSummaryButton.setFont(new Font("Inter", Font.BOLD, 14));
+        headerPanel.add(generateSummaryButton);
+
+        panel.add(headerPanel, BorderLayout.NORTH);
+
+        //  Summary Table 
+        String[] columnNames = {"Employee Name", "Present", "Absent", "On Leave", "Attendance %"};
+        summaryTableModel = new PagedTableModel<>(columnNames, (row, column) -> {
+            switch (column) {
+                case 0: return row.getEmployeeName();
+                case 1: return row.getPresent();
+                case 2: return row.getAbsent();
+                case 3: return row.getOnLeave();
+                default: return String.format("%.1f%%", row.getAttendancePercentage());
+            }
+        }, dbManager, PAGE_SIZE, MAX_CACHED_PAGES);
+        JTable summaryTable = new JTable(summaryTableModel);
+        setupTableStyle(summaryTable);
+
+        JScrollPane scrollPane = new JScrollPane(summaryTable);
+        scrollPane.setBorder(BorderFactory.createLineBorder(COLOR_ACCENT));
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        //Action Listeners for this tab
+        thisMonthButton.addActionListener(e -> {
+            LocalDate now = LocalDate.now();
+            summaryFromSpinner.setValue(toDate(now.withDayOfMonth(1)));
+            summaryToSpinner.setValue(toDate(now.withDayOfMonth(now.lengthOfMonth())));
+            refreshSummaryTab();
+        });
+        generateSummaryButton.addActionListener(e -> refreshSummaryTab());
 
         return panel;
     }
@@ -417,47 +779,345 @@ public class DashboardPanel extends JPanel {
         }
     }
 
+    /**
+     * Creates a date picker spinner showing dates as yyyy-MM-dd.
+     */
+    private JSpinner createDateSpinner(LocalDate initial) {
+        JSpinner spinner = new JSpinner(new SpinnerDateModel());
+        spinner.setEditor(new JSpinner.DateEditor(spinner, "yyyy-MM-dd"));
+        spinner.setValue(toDate(initial));
+        spinner.setFont(new Font("Inter", Font.PLAIN, 14));
+        return spinner;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static String formatSpinnerDate(JSpinner spinner) {
+        return new SimpleDateFormat("yyyy-MM-dd").format((Date) spinner.getValue());
+    }
+
     
     // DATA REFRESH METHODS
     
     
     /**
      * Clears the form and reloads the employee table from the database.
+     * The query runs in the background; the table is filled on the EDT.
      */
-    private void refreshEmployeeManagementTab() {
-        // Clear form
-        nameField.setText("");
-        positionField.setText("");
-        emailField.setText("");
+    private CompletableFuture<Void> refreshEmployeeManagementTab() {
+        clearEmployeeForm();
+        return reloadEmployeeTable();
+    }
+
+    /**
+     * Shows all employees, or only the matches if the search box has text.
+     * A search that is still running is cancelled: its results would be stale.
+     */
+    private CompletableFuture<Void> reloadEmployeeTable() {
+        employeeFilterTimer.stop(); // Runs now, whatever triggered it
+        if (pendingEmployeeFilter != null) {
+            pendingEmployeeFilter.cancel(true);
+            pendingEmployeeFilter = null;
+        }
+        String query = employeeFilterField.getText().trim();
+        if (!query.isEmpty()) {
+            return filterEmployeeTable(query);
+        }
+        employeeFilterActive = false;
+
+        // Reload table (only the visible pages are actually fetched)
+        long start = System.nanoTime();
+        AttendanceRepository db = dbManager.getRepository();
+        CompletableFuture<Void> done = employeeTableModel.reload(new PagedTableModel.PageSource<>() {
+            @Override
+            public int countRows() {
+                return db.countEmployees();
+            }
+
+            @Override
+            public List<Employee> fetchPage(int offset, int limit) {
+                // Keyset page: the cursor for 'offset' is an in-memory lookup
+                return db.getEmployeesPage(db.getEmployeeCursor(offset), limit).getRows();
+            }
+        });
+        recordRefresh(REFRESH_EMPLOYEES, start, done, employeeTableModel::getRowCount);
+        return done;
+    }
 
-        // Reload table
-        dbManager.loadEmployeesToTable(employeeTableModel);
+    /**
+     * Runs the full-text search in the background and shows its matches
+     * (best first) in the employee table.
+     */
+    private CompletableFuture<Void> filterEmployeeTable(String query) {
+        long start = System.nanoTime();
+        CompletableFuture<List<Employee>> search = dbManager.searchEmployees(query, MAX_FILTER_RESULTS);
+        pendingEmployeeFilter = search;
+        CompletableFuture<Void> done = search.thenComposeAsync(matches -> {
+            if (search != pendingEmployeeFilter) {
+                return CompletableFuture.completedFuture(null); // A newer search replaced this one
+            }
+            pendingEmployeeFilter = null;
+            employeeFilterActive = true;
+            // Already complete, so the "pages" are just views of the list
+            return employeeTableModel.reload(new PagedTableModel.PageSource<>() {
+                @Override
+                public int countRows() {
+                    return matches.size();
+                }
+
+                @Override
+                public List<Employee> fetchPage(int offset, int limit) {
+                    return matches.subList(offset, Math.min(offset + limit, matches.size()));
+                }
+            });
+        }, AsyncDatabaseManager.EDT);
+        recordRefresh(REFRESH_EMPLOYEES, start, done, employeeTableModel::getRowCount);
+        return done;
     }
 
     /**
-     * Reloads the employee list in the attendance combo box.
+     * Reloads the employee multi-select list and re-runs the current search
+     * (the search index itself is kept up to date by the repository).
      */
-    private void refreshAttendanceTab() {
-        employeeComboBox.removeAllItems();
-       
+    private CompletableFuture<Void> refreshAttendanceTab() {
+        if (employeeListModel == null) {
+            return CompletableFuture.completedFuture(null); // Tab not opened yet; it loads when it is
+        }
         // The method in DatabaseManager is "getAllEmployeesForAttendance"
-        List<Employee> employees = dbManager.getAllEmployeesForAttendance();
-        for (Employee emp : employees) {
-            employeeComboBox.addItem(emp);
+        long start = System.nanoTime();
+        CompletableFuture<Void> done = dbManager.getAllEmployeesForAttendance().thenAcceptAsync(employees -> {
+            employeeListModel.clear();
+            employeeListModel.addAll(employees);
+            updateEmployeeSearch();
+        }, AsyncDatabaseManager.EDT);
+        recordRefresh(REFRESH_ATTENDANCE, start, done, employeeListModel::getSize);
+        return done;
+    }
+
+    /**
+     * Shows the employees matching the search box text.
+     * The top match is pre-selected, so typing a name and clicking Submit works.
+     */
+    private void updateEmployeeSearch() {
+        List<Employee> matches = dbManager.getRepository()
+                .findEmployeesByPrefix(employeeSearchField.getText(), MAX_SEARCH_RESULTS);
+        searchResultModel.clear();
+        searchResultModel.addAll(matches); // One model event for the whole list
+        if (!matches.isEmpty()) {
+            searchResultList.setSelectedIndex(0);
         }
     }
     
     /**
      * Reloads the attendance report for today's date.
      */
-    private void refreshReportTab() {
-       
-        // The method in DatabaseManager is "loadAttendanceReport"
-        dbManager.loadAttendanceReport(reportTableModel, todayDate);
+    private CompletableFuture<Void> refreshReportTab() {
+        if (reportTableModel == null) {
+            return CompletableFuture.completedFuture(null); // Tab not opened yet; it loads when it is
+        }
+        // The method in DatabaseManager is "getAttendanceReportPage"
+        long start = System.nanoTime();
+        AttendanceRepository db = dbManager.getRepository();
+        String date = todayDate;
+        CompletableFuture<Void> done = reportTableModel.reload(new PagedTableModel.PageSource<>() {
+            @Override
+            public int countRows() {
+                return db.countEmployees(); // One report row per employee
+            }
+
+            @Override
+            public List<ReportRow> fetchPage(int offset, int limit) {
+                // Keyset page (no OFFSET scan), whichever part of the table is shown
+                return db.getAttendanceReportPage(date, db.getEmployeeCursor(offset), limit).getRows();
+            }
+        });
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(done, refreshReportHeader());
+        recordRefresh(REFRESH_REPORT, start, all, reportTableModel::getRowCount);
+        return all;
+    }
+
+    /**
+     * Updates the report's summary header: "Present: 120 | Absent: 4 | ..."
+     * (from the attendance bitmap index: microseconds, no SQL).
+     */
+    private CompletableFuture<Void> refreshReportHeader() {
+        AttendanceRepository db = dbManager.getRepository();
+        String date = todayDate;
+        return dbManager.supply(() -> {
+            int[] counts = db.getDailyStatusCounts(date);
+            int notMarked = db.countEmployees() - counts[0] - counts[1] - counts[2];
+            return String.format("| Present: %d   Absent: %d   On Leave: %d   Not Marked: %d",
+                    counts[0], counts[1], counts[2], Math.max(0, notMarked));
+        }).thenAcceptAsync(reportSummaryLabel::setText, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Computes the summary for the selected date range in the background
+     * and shows it in the summary table.
+     */
+    private CompletableFuture<Void> refreshSummaryTab() {
+        String from = formatSpinnerDate(summaryFromSpinner);
+        String to = formatSpinnerDate(summaryToSpinner);
+        if (from.compareTo(to) > 0) {
+            JOptionPane.showMessageDialog(this, "'From' date must not be after 'To' date.", "Error", JOptionPane.ERROR_MESSAGE);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (LocalDate.parse(to).toEpochDay() - LocalDate.parse(from).toEpochDay() + 1 > AttendanceRepository.MAX_SUMMARY_DAYS) {
+            JOptionPane.showMessageDialog(this, "Please choose a range of at most " + AttendanceRepository.MAX_SUMMARY_DAYS
+                    + " days.", "Error", JOptionPane.ERROR_MESSAGE);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        generateSummaryButton.setEnabled(false);
+        long start = System.nanoTime();
+        CompletableFuture<Void> done = dbManager.getAttendanceSummary(from, to).thenComposeAsync(summaries -> {
+            // Already computed in full, so the "pages" are just views of the list
+            return summaryTableModel.reload(new PagedTableModel.PageSource<>() {
+                @Override
+                public int countRows() {
+                    return summaries.size();
+                }
+
+                @Override
+                public List<AttendanceSummary> fetchPage(int offset, int limit) {
+                    return summaries.subList(offset, Math.min(offset + limit, summaries.size()));
+                }
+            });
+        }, AsyncDatabaseManager.EDT).whenCompleteAsync((ignored, error) -> {
+            generateSummaryButton.setEnabled(true); // Also after a failure, so it can be retried
+            if (error != null) {
+                System.err.println("Error generating summary: " + error.getMessage());
+                JOptionPane.showMessageDialog(this, "Could not generate the summary:\n" + error.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }, AsyncDatabaseManager.EDT);
+        recordRefresh(REFRESH_SUMMARY, start, done, summaryTableModel::getRowCount);
+        return done;
+    }
+
+    /**
+     * Applies committed changes (see DataChangeBus; called on the EDT with every
+     * change since the last call) to the tabs that have been built: each one becomes
+     * a single row insert, delete or update, and Swing paints the result once.
+     * Large bursts reload the affected tables instead.
+     */
+    private void applyDataChanges(List<DataChangeEvent> events) {
+        int employeeChanges = 0;
+        int reportChanges = 0;
+        for (DataChangeEvent event : events) {
+            if (event.getType() != DataChangeEvent.Type.ATTENDANCE_MARKED) {
+                employeeChanges++;
+                reportChanges++;
+            } else if (todayDate.equals(event.getDate())) {
+                reportChanges++;
+            }
+        }
+        boolean reloadEmployees = employeeChanges > MAX_INCREMENTAL_CHANGES;
+        boolean reloadReport = reportChanges > MAX_INCREMENTAL_CHANGES;
+
+        for (DataChangeEvent event : events) {
+            int id = event.getEmployeeId();
+            switch (event.getType()) {
+                case EMPLOYEE_ADDED:
+                    if (reloadEmployees) {
+                        break;
+                    }
+                    Employee added = event.getEmployee();
+                    // Both tables are ordered by ID, and new IDs are the largest
+                    if (employeeTableModel != null && !employeeFilterActive) {
+                        employeeTableModel.appendRow(added, emp -> emp.getId() == id);
+                    }
+                    if (employeeListModel != null) {
+                        employeeListModel.addElement(added);
+                    }
+                    if (reportTableModel != null && !reloadReport) {
+                        reportTableModel.appendRow(new ReportRow(id, added.getName(), "Not Marked"),
+                                row -> row.getEmployeeId() == id);
+                    }
+                    break;
+                case EMPLOYEE_REMOVED:
+                    if (reloadEmployees) {
+                        break;
+                    }
+                    if (employeeTableModel != null && !employeeFilterActive) {
+                        employeeTableModel.removeRow(emp -> emp.getId() == id);
+                    }
+                    if (employeeListModel != null) {
+                        removeFromEmployeeList(id);
+                    }
+                    if (reportTableModel != null && !reloadReport) {
+                        reportTableModel.removeRow(row -> row.getEmployeeId() == id);
+                    }
+                    break;
+                case ATTENDANCE_MARKED:
+                    if (reportTableModel != null && !reloadReport && todayDate.equals(event.getDate())) {
+                        String status = event.getStatus();
+                        reportTableModel.updateRows(row -> row.getEmployeeId() == id,
+                                row -> new ReportRow(id, row.getEmployeeName(), status));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (employeeTableModel != null && employeeChanges > 0 && employeeFilterActive) {
+            reloadEmployeeTable(); // Search results: run the search again
+        }
+        if (reloadEmployees) {
+            if (employeeTableModel != null && !employeeFilterActive) {
+                employeeTableModel.reload();
+            }
+            refreshAttendanceTab(); // Also re-runs the search
+        } else if (employeeChanges > 0 && employeeSearchField != null) {
+            updateEmployeeSearch();
+        }
+        if (reportTableModel != null) {
+            if (reloadReport) {
+                reportTableModel.reload();
+            }
+            if (reportChanges > 0) {
+                refreshReportHeader();
+            }
+        }
+    }
+
+    private void removeFromEmployeeList(int id) {
+        for (int i = 0; i < employeeListModel.getSize(); i++) {
+            if (employeeListModel.get(i).getId() == id) {
+                employeeListModel.remove(i);
+                return;
+            }
+        }
+    }
+
+    private void clearEmployeeForm() {
+        nameField.setText("");
+        positionField.setText("");
+        emailField.setText("");
+    }
+
+    /**
+     * Records a refresh in its metrics once 'done' completes
+     * ('rows' is read then, on the EDT).
+     */
+    private static void recordRefresh(OperationMetrics metrics, long start, CompletableFuture<?> done, IntSupplier rows) {
+        done.whenComplete((result, error) -> {
+            if (error == null) {
+                metrics.record(start, rows.getAsInt());
+            } else {
+                metrics.recordError(start);
+            }
+        });
     }
 
    
     // ACTION LISTENER METHODS
+    // The database calls run in the background; dialogs are shown on the EDT
+    // once they finish. The clicked button is disabled in the meantime.
   
     
     /**
@@ -473,13 +1133,164 @@ public class DashboardPanel extends JPanel {
             return;
         }
 
-        if (dbManager.addEmployee(name, position, email)) {
-            JOptionPane.showMessageDialog(this, "Employee added successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
-            refreshEmployeeManagementTab(); // Refresh table
-            refreshAttendanceTab();     // Refresh combo box
-        } else {
-            JOptionPane.showMessageDialog(this, "Failed to add employee. Email may already exist.", "Error", JOptionPane.ERROR_MESSAGE);
+        JButton source = (JButton) e.getSource();
+        source.setEnabled(false);
+        dbManager.addEmployee(name, position, email).whenCompleteAsync((added, error) -> {
+            source.setEnabled(true); // Also after a failure, so it can be retried
+            if (error != null) {
+                showFailure("add the employee", error);
+            } else if (added) {
+                JOptionPane.showMessageDialog(this, "Employee added successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+                clearEmployeeForm(); // The tables get the new row through applyDataChanges
+            } else {
+                JOptionPane.showMessageDialog(this, "Failed to add employee. Email may already exist.", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Called when the "Import CSV..." button is clicked.
+     * The file is streamed into the database in the background;
+     * the progress bar is updated once per batch.
+     */
+    private void importEmployees(ActionEvent e) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files (name, position, email)", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        EmployeeCsvImporter importer = new EmployeeCsvImporter(dbManager.getRepository());
+        runningImport = importer;
+        importButton.setEnabled(false);
+        importProgressBar.setValue(0);
+        importProgressBar.setString("Importing...");
+        importProgressBar.setVisible(true);
+        cancelImportButton.setEnabled(true);
+        cancelImportButton.setVisible(true);
+
+        dbManager.supply(() -> {
+            try {
+                return importer.importFile(chooser.getSelectedFile().toPath(), (rows, bytesRead, totalBytes) ->
+                        SwingUtilities.invokeLater(() -> {
+                            importProgressBar.setValue(totalBytes == 0 ? 100 : (int) (bytesRead * 100 / totalBytes));
+                            importProgressBar.setString(rows + " rows");
+                        }));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }).whenCompleteAsync((result, error) -> {
+            runningImport = null;
+            importButton.setEnabled(true);
+            importProgressBar.setVisible(false);
+            cancelImportButton.setVisible(false);
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                JOptionPane.showMessageDialog(this, "Import failed: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            StringBuilder message = new StringBuilder()
+                    .append("Rows read: ").append(result.getRowsRead())
+                    .append("\nImported: ").append(result.getInserted())
+                    .append("\nDuplicate emails skipped: ").append(result.getDuplicates())
+                    .append("\nInvalid rows skipped: ").append(result.getInvalid());
+            if (result.getFailed() > 0) {
+                message.append("\nFailed to save: ").append(result.getFailed());
+            }
+            // Show the first few problems
+            for (int i = 0; i < Math.min(10, result.getMessages().size()); i++) {
+                message.append(i == 0 ? "\n\n" : "\n").append(result.getMessages().get(i));
+            }
+            if (result.isCancelled()) {
+                message.insert(0, "Import cancelled. Rows saved before cancelling were kept.\n\n");
+            }
+            JOptionPane.showMessageDialog(this, message.toString(),
+                    result.isCancelled() ? "Import Cancelled" : "Import Finished", JOptionPane.INFORMATION_MESSAGE);
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Called when the "Export..." button is clicked.
+     * Rows are streamed from the database straight into the file in the background.
+     */
+    private void exportAttendance(ActionEvent e) {
+        String from = formatSpinnerDate(exportFromSpinner);
+        String to = formatSpinnerDate(exportToSpinner);
+        if (from.compareTo(to) > 0) {
+            JOptionPane.showMessageDialog(this, "'From' date must not be after 'To' date.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        FileNameExtensionFilter xlsxFilter = new FileNameExtensionFilter("Excel workbook (*.xlsx)", "xlsx");
+        FileNameExtensionFilter csvFilter = new FileNameExtensionFilter("CSV file (*.csv)", "csv");
+        chooser.addChoosableFileFilter(xlsxFilter);
+        chooser.addChoosableFileFilter(csvFilter);
+        chooser.setFileFilter(csvFilter);
+        chooser.setSelectedFile(new File("attendance-" + from + "-to-" + to + ".csv"));
+        // Picking the other format swaps the extension of the name in the dialog
+        chooser.addPropertyChangeListener(JFileChooser.FILE_FILTER_CHANGED_PROPERTY, event -> {
+            String extension = event.getNewValue() == xlsxFilter ? ".xlsx"
+                    : event.getNewValue() == csvFilter ? ".csv" : null;
+            // The name as currently typed (the selected file is only updated on Save)
+            String name = chooser.getUI() instanceof BasicFileChooserUI ui ? ui.getFileName()
+                    : chooser.getSelectedFile() != null ? chooser.getSelectedFile().getName() : null;
+            if (extension == null || name == null || name.isBlank()) {
+                return;
+            }
+            String renamed = name.replaceFirst("(?i)\\.(csv|xlsx)$", "") + extension;
+            // Later, so the dialog has finished reacting to the filter change first
+            SwingUtilities.invokeLater(() -> chooser.setSelectedFile(new File(chooser.getCurrentDirectory(), renamed)));
+        });
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        // Add the extension of the chosen format if the user left it out
+        File file = chooser.getSelectedFile();
+        String extension = chooser.getFileFilter() == xlsxFilter ? ".xlsx" : ".csv";
+        if (!file.getName().toLowerCase().endsWith(".xlsx") && !file.getName().toLowerCase().endsWith(".csv")) {
+            file = new File(file.getPath() + extension);
+        }
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        exportCancelled = cancelled;
+        exportButton.setEnabled(false);
+        cancelExportButton.setEnabled(true);
+
+        File target = file;
+        dbManager.exportAttendance(from, to, target.toPath(), cancelled).whenCompleteAsync((rows, error) -> {
+            exportCancelled = null;
+            exportButton.setEnabled(true);
+            cancelExportButton.setEnabled(false);
+            if (error != null) {
+                showFailure("export attendance", error);
+            } else if (cancelled.get()) {
+                JOptionPane.showMessageDialog(this, "Export cancelled.", "Export", JOptionPane.INFORMATION_MESSAGE);
+            } else if (rows < 0) {
+                JOptionPane.showMessageDialog(this, "Export failed.", "Error", JOptionPane.ERROR_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, "Exported " + rows + " rows to " + target.getName(), "Success", JOptionPane.INFORMATION_MESSAGE);
+            }
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Called when the "View Attendance History" button is clicked (or a row is double-clicked).
+     * Opens a window with the selected employee's history; it loads as it is scrolled.
+     */
+    private void showEmployeeHistory() {
+        int selectedRow = employeeTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "Please select an employee.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        Employee selected = employeeTableModel.getRow(selectedRow);
+        if (selected == null) {
+            return; // Row not loaded yet
         }
+        new EmployeeHistoryDialog(SwingUtilities.getWindowAncestor(this), dbManager, selected).setVisible(true);
     }
 
     /**
@@ -492,9 +1303,13 @@ public class DashboardPanel extends JPanel {
             return;
         }
 
-        // Get the ID from the (hidden) first column
-        int id = (int) employeeTableModel.getValueAt(selectedRow, 0);
-        String name = (String) employeeTableModel.getValueAt(selectedRow, 1);
+        // Get the selected employee (its page is loaded, since the row is visible)
+        Employee selected = employeeTableModel.getRow(selectedRow);
+        if (selected == null) {
+            return;
+        }
+        int id = selected.getId();
+        String name = selected.getName();
         
         int confirm = JOptionPane.showConfirmDialog(this, 
                 "Are you sure you want to delete " + name + "?\nThis will also delete all their attendance records.",
@@ -503,13 +1318,15 @@ public class DashboardPanel extends JPanel {
                 JOptionPane.WARNING_MESSAGE);
         
         if (confirm == JOptionPane.YES_OPTION) {
-            if (dbManager.deleteEmployee(id)) {
-                JOptionPane.showMessageDialog(this, "Employee deleted successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
-                refreshEmployeeManagementTab(); // Refresh table
-                refreshAttendanceTab();     // Refresh combo box
-            } else {
-                JOptionPane.showMessageDialog(this, "Failed to delete employee.", "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            dbManager.deleteEmployee(id).whenCompleteAsync((deleted, error) -> {
+                if (error != null) {
+                    showFailure("delete the employee", error);
+                } else if (deleted) {
+                    JOptionPane.showMessageDialog(this, "Employee deleted successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, "Failed to delete employee.", "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }, AsyncDatabaseManager.EDT);
         }
     }
 
@@ -517,21 +1334,64 @@ public class DashboardPanel extends JPanel {
      * Called when the "Submit Attendance" button is clicked.
      */
     private void markAttendance(ActionEvent e) {
-        Employee selectedEmployee = (Employee) employeeComboBox.getSelectedItem();
+        Employee selectedEmployee = searchResultList.getSelectedValue();
         String status = (String) statusComboBox.getSelectedItem();
 
         if (selectedEmployee == null) {
-            JOptionPane.showMessageDialog(this, "Please select an employee.", "Error", JOptionPane.ERROR_MESSAGE);
+            JOptionPane.showMessageDialog(this, "Please search for and select an employee.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        JButton source = (JButton) e.getSource();
+        source.setEnabled(false);
+        dbManager.markAttendance(selectedEmployee.getId(), todayDate, status).whenCompleteAsync((marked, error) -> {
+            source.setEnabled(true); // Also after a failure, so it can be retried
+            if (error != null) {
+                showFailure("mark attendance", error);
+            } else if (marked) {
+                JOptionPane.showMessageDialog(this, "Attendance marked for " + selectedEmployee.getName(), "Success", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, "Failed to mark attendance.", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Called by the "Mark Selected as ..." buttons.
+     * Marks every selected employee in one database transaction.
+     */
+    private void markSelectedAttendance(String status) {
+        List<Employee> selected = employeeList.getSelectedValuesList();
+        if (selected.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Please select one or more employees.", "Error", JOptionPane.ERROR_MESSAGE);
             return;
         }
 
-        if (dbManager.markAttendance(selectedEmployee.getId(), todayDate, status)) {
-            JOptionPane.showMessageDialog(this, "Attendance marked for " + selectedEmployee.getName(), "Success", JOptionPane.INFORMATION_MESSAGE);
-       
-            refreshReportTab();
-        } else {
-            JOptionPane.showMessageDialog(this, "Failed to mark attendance.", "Error", JOptionPane.ERROR_MESSAGE);
+        List<AttendanceEntry> entries = new ArrayList<>(selected.size());
+        for (Employee emp : selected) {
+            entries.add(new AttendanceEntry(emp.getId(), todayDate, status));
         }
+
+        dbManager.markAttendanceBatch(entries).whenCompleteAsync((marked, error) -> {
+            if (error != null) {
+                showFailure("mark attendance", error);
+            } else if (marked) {
+                JOptionPane.showMessageDialog(this, "Marked " + selected.size() + " employee(s) as " + status, "Success", JOptionPane.INFORMATION_MESSAGE);
+                employeeList.clearSelection();
+            } else {
+                JOptionPane.showMessageDialog(this, "Failed to mark attendance.", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }, AsyncDatabaseManager.EDT);
     }
-}
 
+    /**
+     * Shows an error dialog for a background call that failed with an exception
+     * (rather than returning false), e.g. "Could not mark attendance: ...".
+     */
+    private void showFailure(String action, Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        System.err.println("Could not " + action + ": " + cause);
+        JOptionPane.showMessageDialog(this, "Could not " + action + ":\n" + cause.getMessage(),
+                "Error", JOptionPane.ERROR_MESSAGE);
+    }
+}
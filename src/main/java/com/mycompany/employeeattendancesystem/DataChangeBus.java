@@ -0,0 +1,86 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+
+/**
+ * Tells the screens what changed in the database (see DataChangeEvent).
+ *
+ * Events can be published from any thread, once the change is committed. They are
+ * delivered to the listeners on the Swing Event Dispatch Thread, in order, and in
+ * batches: everything published before the EDT gets round to it is handed over in
+ * one call. A burst of changes (a batch mark, a CSV import, write-behind flushes)
+ * therefore becomes one update of the tables and a single repaint.
+ *
+ * With no listeners (e.g. the headless server) events are simply dropped.
+ */
+public class DataChangeBus {
+
+    /**
+     * Receives the changes, on the EDT, oldest first.
+     */
+    public interface Listener {
+
+        void dataChanged(List<DataChangeEvent> events);
+    }
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<DataChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void publish(DataChangeEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        pending.add(event);
+        scheduleDelivery();
+    }
+
+    public void publishAll(Collection<DataChangeEvent> events) {
+        if (listeners.isEmpty() || events.isEmpty()) {
+            return;
+        }
+        pending.addAll(events);
+        scheduleDelivery();
+    }
+
+    private void scheduleDelivery() {
+        // At most one delivery is queued on the EDT; later events join it
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        // Cleared before draining, so an event added meanwhile schedules a new delivery
+        deliveryScheduled.set(false);
+        List<DataChangeEvent> batch = new ArrayList<>();
+        for (DataChangeEvent event = pending.poll(); event != null; event = pending.poll()) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            try {
+                listener.dataChanged(batch);
+            } catch (RuntimeException e) {
+                System.err.println("Error handling data changes: " + e);
+            }
+        }
+    }
+}
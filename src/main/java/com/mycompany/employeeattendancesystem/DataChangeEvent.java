@@ -0,0 +1,65 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * One committed change to the data, published by the AttendanceRepository on its DataChangeBus
+ * so that open screens can update just the affected rows instead of reloading.
+ */
+public class DataChangeEvent {
+
+    public enum Type {
+        EMPLOYEE_ADDED,
+        EMPLOYEE_REMOVED,
+        ATTENDANCE_MARKED // Inserted or changed (the ON CONFLICT update)
+    }
+
+    private final Type type;
+    private final int employeeId;
+    private final Employee employee; // EMPLOYEE_ADDED only
+    private final String date;       // ATTENDANCE_MARKED only ('yyyy-MM-dd')
+    private final String status;     // ATTENDANCE_MARKED only
+
+    private DataChangeEvent(Type type, int employeeId, Employee employee, String date, String status) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.employee = employee;
+        this.date = date;
+        this.status = status;
+    }
+
+    public static DataChangeEvent employeeAdded(Employee employee) {
+        return new DataChangeEvent(Type.EMPLOYEE_ADDED, employee.getId(), employee, null, null);
+    }
+
+    public static DataChangeEvent employeeRemoved(int employeeId) {
+        return new DataChangeEvent(Type.EMPLOYEE_REMOVED, employeeId, null, null, null);
+    }
+
+    public static DataChangeEvent attendanceMarked(int employeeId, String date, String status) {
+        return new DataChangeEvent(Type.ATTENDANCE_MARKED, employeeId, null, date, status);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return type + "[employee " + employeeId + (date != null ? ", " + date + " " + status : "") + "]";
+    }
+}
@@ -1,33 +1,336 @@
 package com.mycompany.employeeattendancesystem;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.swing.table.DefaultTableModel;
 
 /**
  * Manages all database operations (SQLite).
  * This includes creating tables, managing employees, and logging attendance.
+ * It is the normal AttendanceRepository engine (see also InMemoryAttendanceRepository).
  */
-public class DatabaseManager {
+public class DatabaseManager implements AttendanceRepository {
 
     private static final String DB_URL = "jdbc:sqlite:attendance.db";
+    private static final int POOL_SIZE = 4;
+    private static final int READ_POOL_SIZE = 4;
+    private static final long CHECKPOINT_INTERVAL_SECONDS = 30;
+
+    // Stored in PRAGMA user_version; bump it when adding a migration below
+    private static final int SCHEMA_VERSION = 5;
+
+    // Date-range summaries are computed in chunks of this many days, in parallel,
+    // but never on more than half the read connections, so other reads are not starved
+    private static final int SUMMARY_CHUNK_DAYS = 92;
+    private static final int SUMMARY_PARALLELISM = Math.max(1, READ_POOL_SIZE / 2);
+
+    // How long SQLite waits for another process's lock, and how long a write keeps retrying after that
+    private static final long DEFAULT_BUSY_TIMEOUT_MILLIS = 5000;
+    private static final long DEFAULT_WRITE_RETRY_MILLIS = 30000;
+
+    // How often other processes' changes are looked for (see refreshCaches())
+    private static final long DEFAULT_CACHE_REFRESH_MILLIS = 250;
+
+    // Rows fetched per round trip when streaming an export
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    // change_log rows kept for other processes to catch up from (older ones are pruned at startup)
+    private static final long CHANGE_LOG_KEEP = 100_000;
+
+    // Long-lived connections shared by every method below
+    private final ConnectionPool pool;
+    // Connections for read-only methods: a separate read-only pool in WAL mode,
+    // otherwise the same pool as above
+    private final ConnectionPool readPool;
+    private final StorageMode storageMode;
+    private WalCheckpointer checkpointer;
+
+    // Latency / call-count metrics for each public operation (see Metrics; shared by all instances)
+    private static final OperationMetrics VALIDATE_ADMIN = Metrics.operation("validateAdmin");
+    private static final OperationMetrics ADD_EMPLOYEE = Metrics.operation("addEmployee");
+    private static final OperationMetrics ADD_EMPLOYEES_BATCH = Metrics.operation("addEmployeesBatch");
+    private static final OperationMetrics DELETE_EMPLOYEE = Metrics.operation("deleteEmployee");
+    private static final OperationMetrics GET_ALL_EMPLOYEES = Metrics.operation("getAllEmployees");
+    private static final OperationMetrics COUNT_EMPLOYEES = Metrics.operation("countEmployees");
+    private static final OperationMetrics GET_EMPLOYEES_PAGE = Metrics.operation("getEmployeesPage");
+    private static final OperationMetrics SEARCH_EMPLOYEES = Metrics.operation("searchEmployees");
+    private static final OperationMetrics FIND_EMPLOYEES_BY_PREFIX = Metrics.operation("findEmployeesByPrefix");
+    private static final OperationMetrics MARK_ATTENDANCE = Metrics.operation("markAttendance");
+    private static final OperationMetrics MARK_ATTENDANCE_BATCH = Metrics.operation("markAttendanceBatch");
+    private static final OperationMetrics GET_ATTENDANCE_REPORT = Metrics.operation("getAttendanceReport");
+    private static final OperationMetrics GET_ATTENDANCE_REPORT_PAGE = Metrics.operation("getAttendanceReportPage");
+    private static final OperationMetrics GET_ATTENDANCE_SUMMARY = Metrics.operation("getAttendanceSummary");
+    private static final OperationMetrics EXPORT_ATTENDANCE = Metrics.operation("exportAttendance");
+    private static final OperationMetrics GET_DAILY_STATUS_COUNTS = Metrics.operation("getDailyStatusCounts");
+    private static final OperationMetrics GET_DAILY_SUMMARY = Metrics.operation("getDailySummary");
+    private static final OperationMetrics GET_ATTENDANCE_HISTORY = Metrics.operation("getAttendanceHistory");
+    private static final OperationMetrics GET_EMPLOYEE_STATUS_COUNTS = Metrics.operation("getEmployeeStatusCounts");
+
+    // Page cursor kinds (see Page): listings ordered by employee ID, and by day
+    private static final String EMPLOYEE_CURSOR = "employee";
+    private static final String DAY_CURSOR = "day";
+
+    // In-memory copy of the employees table; kept up to date by addEmployee/deleteEmployee
+    // and, for other processes' changes, by refreshCaches() on the cacheRefresher thread
+    private final EmployeeDirectory directory = new EmployeeDirectory();
+
+    // In-memory (day, status) -> employees bitmaps; kept up to date by every committed mark
+    private final AttendanceBitmapIndex attendanceIndex = new AttendanceBitmapIndex();
+
+    // Held while a write and its cache update run, and while refreshCaches() applies
+    // other processes' changes, so the two never interleave
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    // Notices commits by other processes (see refreshCaches()); null if it could not be opened.
+    // A connection of its own: PRAGMA data_version is per connection.
+    private volatile Connection watchConnection;
+    private long dataVersion;   // Last PRAGMA data_version seen on watchConnection
+    private long lastChangeSeq; // Last change_log entry applied to the caches
+
+    // Runs refreshCaches() every attendance.cacheRefreshMillis, so directory reads (called on the EDT,
+    // e.g. the search box on every keystroke) never touch the database; null if not watching
+    private ScheduledExecutorService cacheRefresher;
+
+    // Optional write-behind journal for markAttendance (null = write immediately)
+    private volatile AttendanceWriteBehind writeBehind;
+
+    // Committed employee / attendance changes, for screens that update incrementally
+    private final DataChangeBus changeBus = new DataChangeBus();
+
+    // Every write of this process runs on this one thread (see DatabaseWriter)
+    private final DatabaseWriter writer;
 
     public DatabaseManager() {
-        createTables();
-        // Ensure the admin user exists
-        addAdminUserIfNotExists();
+        this(DB_URL);
+    }
+
+    /**
+     * Opens attendance.db in the given storage mode.
+     */
+    public DatabaseManager(StorageMode storageMode) {
+        this(DB_URL, storageMode);
+    }
+
+    /**
+     * Opens a specific database (e.g. a generated one for benchmarks).
+     */
+    public DatabaseManager(String dbUrl) {
+        this(dbUrl, StorageMode.ROLLBACK_JOURNAL);
+    }
+
+    /**
+     * Opens a specific database in the given storage mode.
+     */
+    public DatabaseManager(String dbUrl, StorageMode storageMode) {
+        this.storageMode = storageMode;
+        // Prepared statements kept open per connection; -Dattendance.statementCacheSize=0 turns this off
+        int statementCacheSize = Integer.getInteger("attendance.statementCacheSize", ConnectionPool.DEFAULT_STATEMENT_CACHE_SIZE);
+        // Other processes may hold the database lock (several terminals on one attendance.db):
+        // SQLite waits up to busy_timeout for it, then DatabaseWriter retries with backoff
+        String busyTimeout = String.valueOf(Long.getLong("attendance.busyTimeoutMillis", DEFAULT_BUSY_TIMEOUT_MILLIS));
+        writer = new DatabaseWriter(Long.getLong("attendance.writeRetryMillis", DEFAULT_WRITE_RETRY_MILLIS));
+
+        Properties watchProps = new Properties();
+        watchProps.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+        watchProps.setProperty("busy_timeout", "0"); // Locked right now: serve the caches, check next time
+
+        Properties writeProps = new Properties();
+        writeProps.setProperty("busy_timeout", busyTimeout);
+        // Write transactions take the lock at BEGIN, where busy_timeout applies, instead of
+        // failing at their first write when a reader in another process is active
+        writeProps.setProperty("transaction_mode", "IMMEDIATE");
+        if (storageMode == StorageMode.WAL) {
+            writeProps.setProperty("synchronous", "NORMAL"); // Durable at checkpoints; the usual WAL setting
+            pool = new ConnectionPool(dbUrl, POOL_SIZE, writeProps, statementCacheSize);
+
+            Properties readProps = new Properties();
+            readProps.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+            readProps.setProperty("busy_timeout", busyTimeout);
+            readPool = new ConnectionPool(dbUrl, READ_POOL_SIZE, readProps, statementCacheSize);
+        } else {
+            pool = new ConnectionPool(dbUrl, POOL_SIZE, writeProps, statementCacheSize);
+            readPool = pool;
+        }
+        // Publish acquire times and write contention over JMX
+        Metrics.registerPool("write", pool);
+        if (readPool != pool) {
+            Metrics.registerPool("read", readPool);
+        }
+        Metrics.registerWriter(writer);
+
+        // All start-up work shares one connection
+        try (Connection conn = pool.getConnection()) {
+            applyJournalMode(conn);
+            createTables(conn);
+            // Ensure the admin user exists
+            addAdminUserIfNotExists(conn);
+            // Before loading the caches, so a change committed meanwhile is replayed, not missed
+            watchChanges(conn, dbUrl, watchProps);
+            // Load the employee directory once; after this, employee reads need no SQL
+            directory.loadAll(queryAllEmployees(conn));
+            // Same for attendance headcounts (see AttendanceBitmapIndex)
+            loadAttendanceIndex(conn);
+        } catch (SQLException e) {
+            System.err.println("Error opening database: " + e.getMessage());
+        }
+
+        if (storageMode == StorageMode.WAL) {
+            checkpointer = new WalCheckpointer(pool, writer, CHECKPOINT_INTERVAL_SECONDS);
+        }
+        startCacheRefresher();
+    }
+
+    /**
+     * Starts the background thread that picks up other processes' changes
+     * (see refreshCaches()). -Dattendance.cacheRefreshMillis=0 turns it off;
+     * the directory then only shows this process's own changes until a
+     * bitmap read, summary or mark refreshes the caches.
+     */
+    private void startCacheRefresher() {
+        long interval = Long.getLong("attendance.cacheRefreshMillis", DEFAULT_CACHE_REFRESH_MILLIS);
+        if (watchConnection == null || interval <= 0) {
+            return;
+        }
+        cacheRefresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cache-refresher");
+            t.setDaemon(true); // Never keeps the JVM alive
+            return t;
+        });
+        cacheRefresher.scheduleWithFixedDelay(this::refreshCaches, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Switches the database file to the journal mode for this storage mode.
+     * The setting is stored in the file, so it is applied on every start.
+     */
+    private void applyJournalMode(Connection conn) {
+        String mode = storageMode == StorageMode.WAL ? "WAL" : "DELETE";
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA journal_mode = " + mode)) {
+            if (rs.next() && !mode.equalsIgnoreCase(rs.getString(1))) {
+                System.err.println("Could not switch journal mode to " + mode + ", using " + rs.getString(1));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error setting journal mode: " + e.getMessage());
+        }
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * The WAL checkpointer, or null in rollback-journal mode.
+     */
+    public WalCheckpointer getCheckpointer() {
+        return checkpointer;
+    }
+
+    /**
+     * Closes all pooled connections. Called once when the application shuts down.
+     */
+    @Override
+    public void close() {
+        // Commit any queued attendance marks before the connections go away
+        AttendanceWriteBehind journal = writeBehind;
+        if (journal != null) {
+            journal.close();
+            Metrics.unregisterWriteBehind(journal);
+            Metrics.log(journal.getStats());
+        }
+        if (checkpointer != null) {
+            checkpointer.close();
+        }
+        writer.close();
+        if (cacheRefresher != null) {
+            cacheRefresher.shutdown(); // A refresh already running finishes under cacheLock below
+        }
+        cacheLock.lock(); // Not in the middle of refreshCaches()
+        try {
+            Connection watch = watchConnection;
+            watchConnection = null;
+            if (watch != null) {
+                watch.close();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error closing database: " + e.getMessage());
+        } finally {
+            cacheLock.unlock();
+        }
+        Metrics.unregisterWriter(writer);
+        Metrics.log(writer.getStats());
+        Metrics.log(pool.getAcquireStats());
+        pool.close();
+        Metrics.unregisterPool("write", pool);
+        if (readPool != pool) {
+            Metrics.log("Read-only " + readPool.getAcquireStats());
+            readPool.close();
+            Metrics.unregisterPool("read", readPool);
+        }
+    }
+
+    /**
+     * Switches markAttendance() to write-behind mode: marks are queued in memory and
+     * committed in groups of up to maxBatchSize rows, at most maxLatencyMillis after
+     * they were queued. Reads of attendance data wait for queued marks first.
+     */
+    public synchronized void enableWriteBehind(int maxBatchSize, long maxLatencyMillis) {
+        if (writeBehind == null) {
+            writeBehind = new AttendanceWriteBehind(this, maxBatchSize, maxLatencyMillis, maxBatchSize * 16);
+            Metrics.registerWriteBehind(writeBehind);
+        }
+    }
+
+    /**
+     * The write-behind journal, or null if marks are written immediately.
+     */
+    public AttendanceWriteBehind getWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Makes sure queued attendance marks are in the database before reading it.
+     */
+    private void flushPendingWrites() {
+        AttendanceWriteBehind journal = writeBehind;
+        if (journal != null) {
+            journal.flush();
+        }
+    }
+
+    /**
+     * Gives access to the connection pool (e.g. for reporting acquire latency).
+     */
+    public ConnectionPool getConnectionPool() {
+        return pool;
     }
 
     /**
      * Creates the necessary tables if they don't already exist.
      */
-    private void createTables() {
+    private void createTables(Connection conn) {
         // SQL statement for employees table
         String sqlEmployees = "CREATE TABLE IF NOT EXISTS employees ("
                 + " id INTEGER PRIMARY KEY AUTOINCREMENT,"
@@ -43,47 +346,324 @@ public class DatabaseManager {
                 + " password TEXT NOT NULL" // Note: In a real app, hash this!
                 + ");";
 
-        // SQL statement for attendance table
-        String sqlAttendance = "CREATE TABLE IF NOT EXISTS attendance ("
+        try (Statement stmt = conn.createStatement()) {
+            // Create tables
+            stmt.execute(sqlEmployees);
+            stmt.execute(sqlAdmin);
+            stmt.execute(attendanceTableSql("attendance"));
+
+            // Upgrade older attendance.db files in place
+            migrateSchema(conn);
+        } catch (SQLException e) {
+            System.err.println("Error creating tables: " + e.getMessage());
+        }
+    }
+
+    /**
+     * SQL for the attendance table (current schema).
+     * 'date' is stored as an epoch-day integer (days since 1970-01-01).
+     */
+    private static String attendanceTableSql(String tableName) {
+        return "CREATE TABLE IF NOT EXISTS " + tableName + " ("
                 + " attendance_id INTEGER PRIMARY KEY AUTOINCREMENT,"
                 + " employee_id INTEGER NOT NULL,"
-                + " date TEXT NOT NULL," // This is the corrected column name
+                + " date INTEGER NOT NULL," // Epoch day, see toEpochDay()
                 + " status TEXT NOT NULL,"
                 + " FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,"
                 + " UNIQUE(employee_id, date)" // This constraint prevents duplicate entries per day
                 + ");";
+    }
 
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             Statement stmt = conn.createStatement()) {
-            // Create tables
-            stmt.execute(sqlEmployees);
-            stmt.execute(sqlAdmin);
-            stmt.execute(sqlAttendance);
+    /**
+     * Brings the schema up to SCHEMA_VERSION, one version at a time.
+     * Each step runs in its own transaction, so a failed upgrade leaves the file untouched.
+     */
+    private void migrateSchema(Connection conn) throws SQLException {
+        int version;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            version = rs.next() ? rs.getInt(1) : 0;
+        }
+
+        if (version > SCHEMA_VERSION) {
+            System.err.println("attendance.db has schema version " + version
+                    + ", newer than this application (" + SCHEMA_VERSION + ")");
+            return;
+        }
+
+        if (version < 1) {
+            runMigration(conn, 1, this::migrateToEpochDayDates);
+        }
+        if (version < 2) {
+            runMigration(conn, 2, this::migrateToDailySummary);
+        }
+        if (version < 3) {
+            runMigration(conn, 3, this::migrateToEmployeeSearch);
+        }
+        if (version < 4) {
+            runMigration(conn, 4, this::migrateDailySummaryTriggers);
+        }
+        if (version < 5) {
+            runMigration(conn, 5, this::migrateToChangeLog);
+        }
+    }
+
+    private interface Migration {
+        void apply(Statement stmt) throws SQLException;
+    }
+
+    private void runMigration(Connection conn, int toVersion, Migration migration) throws SQLException {
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            migration.apply(stmt);
+            stmt.execute("PRAGMA user_version = " + toVersion);
+            conn.commit();
+            System.out.println("Database schema upgraded to version " + toVersion);
         } catch (SQLException e) {
-            System.err.println("Error creating tables: " + e.getMessage());
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
         }
     }
 
     /**
-     * Adds the default 'admin' user if no admin user exists.
+     * Version 1: attendance.date becomes an epoch-day INTEGER (it used to be
+     * 'yyyy-MM-dd' TEXT), and a (date, employee_id, status) covering index is added
+     * so per-day lookups and date-range scans never touch the table itself.
      */
-    private void addAdminUserIfNotExists() {
-        String sqlCheck = "SELECT COUNT(*) FROM admin";
-        String sqlInsert = "INSERT INTO admin(username, password) VALUES(?, ?)";
-
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sqlCheck)) {
-
-            // Check if any admin users exist
-            if (rs.next() && rs.getInt(1) == 0) {
-                // No admin users, let's insert the default one
-                try (PreparedStatement pstmt = conn.prepareStatement(sqlInsert)) {
-                    pstmt.setString(1, "admin");
-                    pstmt.setString(2, "admin123"); // Default password
-                    pstmt.executeUpdate();
+    private void migrateToEpochDayDates(Statement stmt) throws SQLException {
+        boolean hasTextDates = false;
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(attendance)")) {
+            while (rs.next()) {
+                if ("date".equals(rs.getString("name")) && "TEXT".equalsIgnoreCase(rs.getString("type"))) {
+                    hasTextDates = true;
                 }
             }
+        }
+
+        if (hasTextDates) {
+            // SQLite cannot change a column type, so copy into a new table.
+            // 2440587.5 is the Julian day number of 1970-01-01.
+            stmt.execute(attendanceTableSql("attendance_new"));
+            stmt.execute("INSERT INTO attendance_new (attendance_id, employee_id, date, status)"
+                    + " SELECT attendance_id, employee_id,"
+                    + " CAST(ROUND(julianday(date) - 2440587.5) AS INTEGER), status"
+                    + " FROM attendance");
+            stmt.execute("DROP TABLE attendance");
+            stmt.execute("ALTER TABLE attendance_new RENAME TO attendance");
+        }
+
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendance_date_employee_status"
+                + " ON attendance(date, employee_id, status)");
+    }
+
+    /**
+     * Version 2: a daily_summary table with the present / absent / on-leave count of
+     * every day, kept up to date by triggers on attendance, so per-day dashboards read
+     * one row per day instead of aggregating the attendance table.
+     *
+     * Deleting an employee now also deletes their attendance (also done by a trigger),
+     * so the counts only ever include current employees. Rows left behind by employees
+     * deleted earlier were never shown in any report; they are moved, unchanged, to an
+     * attendance_orphaned table rather than thrown away, so nothing is lost.
+     */
+    private void migrateToDailySummary(Statement stmt) throws SQLException {
+        stmt.execute("CREATE TABLE IF NOT EXISTS attendance_orphaned ("
+                + " attendance_id INTEGER PRIMARY KEY,"
+                + " employee_id INTEGER NOT NULL,"
+                + " date INTEGER NOT NULL," // Epoch day, like attendance.date
+                + " status TEXT NOT NULL"
+                + ")");
+        int orphaned = stmt.executeUpdate("INSERT OR IGNORE INTO attendance_orphaned (attendance_id, employee_id, date, status)"
+                + " SELECT attendance_id, employee_id, date, status FROM attendance"
+                + " WHERE employee_id NOT IN (SELECT id FROM employees)");
+        stmt.execute("DELETE FROM attendance WHERE attendance_id IN (SELECT attendance_id FROM attendance_orphaned)");
+        if (orphaned > 0) {
+            System.err.println("Moved " + orphaned + " attendance rows of deleted employees to attendance_orphaned");
+        }
+
+        stmt.execute("CREATE TABLE IF NOT EXISTS daily_summary ("
+                + " date INTEGER PRIMARY KEY," // Epoch day, like attendance.date
+                + " present INTEGER NOT NULL DEFAULT 0,"
+                + " absent INTEGER NOT NULL DEFAULT 0,"
+                + " on_leave INTEGER NOT NULL DEFAULT 0"
+                + ")");
+
+        createDailySummaryTriggers(stmt);
+        // Deleting an employee deletes their marks, which fires attendance_summary_delete
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS employees_delete_attendance AFTER DELETE ON employees"
+                + " BEGIN"
+                + " DELETE FROM attendance WHERE employee_id = OLD.id;"
+                + " END");
+
+        stmt.execute("DELETE FROM daily_summary");
+        stmt.execute(REBUILD_DAILY_SUMMARY_SQL);
+    }
+
+    /**
+     * The triggers that keep daily_summary up to date with attendance.
+     *
+     * A day's row is created with INSERT ... WHERE NOT EXISTS rather than INSERT OR IGNORE:
+     * SQLite applies the conflict handling of the statement that fired a trigger to the
+     * statements inside it, so under markAttendance()'s ON CONFLICT ... DO UPDATE the
+     * "OR IGNORE" was dropped and a second mark on a day failed on daily_summary's key.
+     */
+    private static void createDailySummaryTriggers(Statement stmt) throws SQLException {
+        // New mark: add it to its day (creating the day's row if needed)
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS attendance_summary_insert AFTER INSERT ON attendance"
+                + " BEGIN"
+                + " INSERT INTO daily_summary (date) SELECT NEW.date"
+                + " WHERE NOT EXISTS (SELECT 1 FROM daily_summary WHERE date = NEW.date);"
+                + " UPDATE daily_summary SET present = present + (NEW.status = 'Present'),"
+                + " absent = absent + (NEW.status = 'Absent'), on_leave = on_leave + (NEW.status = 'On Leave')"
+                + " WHERE date = NEW.date;"
+                + " END");
+        // Changed mark (ON CONFLICT ... DO UPDATE in markAttendance): move the count
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS attendance_summary_update AFTER UPDATE OF date, status ON attendance"
+                + " BEGIN"
+                + " UPDATE daily_summary SET present = present - (OLD.status = 'Present'),"
+                + " absent = absent - (OLD.status = 'Absent'), on_leave = on_leave - (OLD.status = 'On Leave')"
+                + " WHERE date = OLD.date;"
+                + " INSERT INTO daily_summary (date) SELECT NEW.date"
+                + " WHERE NOT EXISTS (SELECT 1 FROM daily_summary WHERE date = NEW.date);"
+                + " UPDATE daily_summary SET present = present + (NEW.status = 'Present'),"
+                + " absent = absent + (NEW.status = 'Absent'), on_leave = on_leave + (NEW.status = 'On Leave')"
+                + " WHERE date = NEW.date;"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS attendance_summary_delete AFTER DELETE ON attendance"
+                + " BEGIN"
+                + " UPDATE daily_summary SET present = present - (OLD.status = 'Present'),"
+                + " absent = absent - (OLD.status = 'Absent'), on_leave = on_leave - (OLD.status = 'On Leave')"
+                + " WHERE date = OLD.date;"
+                + " END");
+    }
+
+    /**
+     * Version 3: employees_fts, an FTS5 full-text index over employee name, position
+     * and email, for searchEmployees(). It is an "external content" table: it stores
+     * only the index and reads the text from employees, and triggers keep it in sync
+     * with every insert, update and delete. The "prefix" option also indexes the first
+     * 2 and 3 characters of every word, so short prefix queries are index lookups too.
+     */
+    private void migrateToEmployeeSearch(Statement stmt) throws SQLException {
+        stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS employees_fts USING fts5("
+                + " name, position, email,"
+                + " content = 'employees', content_rowid = 'id',"
+                + " tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3'"
+                + ")");
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS employees_fts_insert AFTER INSERT ON employees"
+                + " BEGIN"
+                + " INSERT INTO employees_fts (rowid, name, position, email)"
+                + " VALUES (NEW.id, NEW.name, NEW.position, NEW.email);"
+                + " END");
+        // External content tables are told what the deleted row contained
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS employees_fts_delete AFTER DELETE ON employees"
+                + " BEGIN"
+                + " INSERT INTO employees_fts (employees_fts, rowid, name, position, email)"
+                + " VALUES ('delete', OLD.id, OLD.name, OLD.position, OLD.email);"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS employees_fts_update AFTER UPDATE ON employees"
+                + " BEGIN"
+                + " INSERT INTO employees_fts (employees_fts, rowid, name, position, email)"
+                + " VALUES ('delete', OLD.id, OLD.name, OLD.position, OLD.email);"
+                + " INSERT INTO employees_fts (rowid, name, position, email)"
+                + " VALUES (NEW.id, NEW.name, NEW.position, NEW.email);"
+                + " END");
+
+        // Index the employees that already exist
+        stmt.execute("INSERT INTO employees_fts (employees_fts) VALUES ('rebuild')");
+    }
+
+    /**
+     * Version 4: replaces the version 2 daily_summary triggers, whose INSERT OR IGNORE
+     * failed when a mark was changed (see createDailySummaryTriggers()).
+     */
+    private void migrateDailySummaryTriggers(Statement stmt) throws SQLException {
+        stmt.execute("DROP TRIGGER IF EXISTS attendance_summary_insert");
+        stmt.execute("DROP TRIGGER IF EXISTS attendance_summary_update");
+        createDailySummaryTriggers(stmt);
+    }
+
+    /**
+     * Version 5: change_log, one row per changed employee or attendance row, written by
+     * triggers. Several processes may share attendance.db (one per terminal); each keeps
+     * the employees and headcounts in memory, and reads this log to pick up what the
+     * others changed (see refreshCaches()). 'date' is NULL for an employee change.
+     */
+    private void migrateToChangeLog(Statement stmt) throws SQLException {
+        stmt.execute("CREATE TABLE IF NOT EXISTS change_log ("
+                + " seq INTEGER PRIMARY KEY AUTOINCREMENT," // Never reused, even after pruning
+                + " employee_id INTEGER NOT NULL,"
+                + " date INTEGER" // Epoch day of the attendance row, NULL = the employee row
+                + ")");
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_employee_insert AFTER INSERT ON employees"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id) VALUES (NEW.id);"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_employee_update AFTER UPDATE ON employees"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id) SELECT OLD.id UNION SELECT NEW.id;"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_employee_delete AFTER DELETE ON employees"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id) VALUES (OLD.id);"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_attendance_insert AFTER INSERT ON attendance"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id, date) VALUES (NEW.employee_id, NEW.date);"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_attendance_update AFTER UPDATE ON attendance"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id, date)"
+                + " SELECT OLD.employee_id, OLD.date UNION SELECT NEW.employee_id, NEW.date;"
+                + " END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS change_log_attendance_delete AFTER DELETE ON attendance"
+                + " BEGIN"
+                + " INSERT INTO change_log (employee_id, date) VALUES (OLD.employee_id, OLD.date);"
+                + " END");
+    }
+
+    // Recomputes daily_summary from the attendance table
+    private static final String REBUILD_DAILY_SUMMARY_SQL = "INSERT INTO daily_summary (date, present, absent, on_leave)"
+            + " SELECT date, SUM(status = 'Present'), SUM(status = 'Absent'), SUM(status = 'On Leave')"
+            + " FROM attendance GROUP BY date";
+
+    /**
+     * Converts a 'yyyy-MM-dd' date (as used by the UI) to the stored epoch day.
+     */
+    static long toEpochDay(String date) throws SQLException {
+        if (date == null) {
+            throw new SQLException("Missing date (expected yyyy-MM-dd)");
+        }
+        try {
+            return LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new SQLException("Invalid date (expected yyyy-MM-dd): " + date, e);
+        }
+    }
+
+    /**
+     * Converts a stored epoch day back to 'yyyy-MM-dd'.
+     */
+    static String fromEpochDay(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).toString();
+    }
+
+    /**
+     * Adds the default 'admin' user if no admin user exists.
+     */
+    private void addAdminUserIfNotExists(Connection conn) {
+        // Check and insert in one statement: only runs the insert if there are no admin users
+        String sql = "INSERT INTO admin(username, password) SELECT ?, ?"
+                + " WHERE NOT EXISTS (SELECT 1 FROM admin)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, "admin");
+            pstmt.setString(2, "admin123"); // Default password
+            pstmt.executeUpdate();
         } catch (SQLException e) {
             System.err.println("Error checking/adding admin user: " + e.getMessage());
         }
@@ -92,16 +672,21 @@ public class DatabaseManager {
     /**
      * Validates admin login credentials.
      */
+    @Override
     public boolean validateAdmin(String username, String password) {
+        long start = System.nanoTime();
         String sql = "SELECT * FROM admin WHERE username = ? AND password = ?";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
+        try (Connection conn = readPool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, username);
             pstmt.setString(2, password);
             try (ResultSet rs = pstmt.executeQuery()) {
-                return rs.next(); // True if a matching record is found
+                boolean valid = rs.next(); // True if a matching record is found
+                VALIDATE_ADMIN.record(start, valid ? 1 : 0);
+                return valid;
             }
         } catch (SQLException e) {
+            VALIDATE_ADMIN.recordError(start);
             System.err.println("Error validating admin: " + e.getMessage());
             return false;
         }
@@ -109,117 +694,985 @@ public class DatabaseManager {
 
     /**
      * Adds a new employee to the database.
+     * Fails if a field is missing (see checkEmployee()) or the email is already taken.
      */
+    @Override
     public boolean addEmployee(String name, String position, String email) {
-        String sql = "INSERT INTO employees(name, position, email) VALUES(?, ?, ?)";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, name);
-            pstmt.setString(2, position);
-            pstmt.setString(3, email);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        // RETURNING hands back the generated ID (this driver version does not support getGeneratedKeys())
+        String sql = "INSERT INTO employees(name, position, email) VALUES(?, ?, ?) RETURNING id";
+        cacheLock.lock(); // Until the directory has the new row (see refreshCaches())
+        try {
+            checkEmployee(name, position, email);
+            Employee added = writer.execute(() -> {
+                try (Connection conn = pool.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, name);
+                    pstmt.setString(2, position);
+                    pstmt.setString(3, email);
+                    try (ResultSet keys = pstmt.executeQuery()) {
+                        return keys.next() ? new Employee(keys.getInt(1), name, position, email) : null;
+                    }
+                }
+            });
+
+            // Write-through: add the new row (with its generated ID) to the directory
+            DataChangeEvent event = added == null ? null : cacheEmployee(added);
+            if (event != null) {
+                changeBus.publish(event);
+            }
+            ADD_EMPLOYEE.record(start, 1);
             return true;
         } catch (SQLException e) {
+            ADD_EMPLOYEE.recordError(start);
             System.err.println("Error adding employee: " + e.getMessage());
             return false;
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Adds many employees in a single transaction (used by the CSV import).
+     * A row whose email already exists (in the table or earlier in the batch) is
+     * skipped rather than failing the batch; its email is added to 'duplicateEmails'.
+     * A row with a missing field fails the whole batch, and nothing is added.
+     * Returns the number of employees inserted, or -1 if the batch failed.
+     */
+    @Override
+    public int addEmployeesBatch(List<Employee> employees, List<String> duplicateEmails) {
+        long start = System.nanoTime();
+        // A skipped duplicate returns no row; an inserted one returns its generated ID
+        String sql = "INSERT INTO employees(name, position, email) VALUES(?, ?, ?)"
+                + " ON CONFLICT(email) DO NOTHING RETURNING id";
+        List<Employee> inserted = new ArrayList<>(employees.size());
+        int duplicatesBefore = duplicateEmails.size();
+
+        cacheLock.lock(); // Until the directory has the new rows (see refreshCaches())
+        try {
+            for (Employee emp : employees) {
+                checkEmployee(emp.getName(), emp.getPosition(), emp.getEmail());
+            }
+            writer.execute(() -> {
+                // Start clean: this runs again if the database was locked
+                inserted.clear();
+                duplicateEmails.subList(duplicatesBefore, duplicateEmails.size()).clear();
+                try (Connection conn = pool.getConnection()) {
+                    conn.setAutoCommit(false);
+                    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                        for (Employee emp : employees) {
+                            pstmt.setString(1, emp.getName());
+                            pstmt.setString(2, emp.getPosition());
+                            pstmt.setString(3, emp.getEmail());
+                            try (ResultSet keys = pstmt.executeQuery()) {
+                                if (keys.next()) {
+                                    inserted.add(new Employee(keys.getInt(1), emp.getName(), emp.getPosition(), emp.getEmail()));
+                                } else {
+                                    duplicateEmails.add(emp.getEmail()); // UNIQUE(email) conflict
+                                }
+                            }
+                        }
+                        conn.commit();
+                        return null;
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        throw e;
+                    } finally {
+                        conn.setAutoCommit(true);
+                    }
+                }
+            });
+
+            // Write-through, only once the rows are committed
+            List<DataChangeEvent> events = new ArrayList<>(inserted.size());
+            for (Employee emp : inserted) {
+                DataChangeEvent event = cacheEmployee(emp);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+            changeBus.publishAll(events);
+            ADD_EMPLOYEES_BATCH.record(start, inserted.size());
+            return inserted.size();
+        } catch (SQLException e) {
+            ADD_EMPLOYEES_BATCH.recordError(start);
+            System.err.println("Error adding employee batch: " + e.getMessage());
+            return -1;
+        } finally {
+            cacheLock.unlock();
         }
     }
 
     /**
      * Deletes an employee from the database.
      */
+    @Override
     public boolean deleteEmployee(int id) {
+        long start = System.nanoTime();
+        flushPendingWrites(); // Queued marks for this employee must not outlive the delete
         String sql = "DELETE FROM employees WHERE id = ?";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        cacheLock.lock(); // Until the employee is out of the caches (see refreshCaches())
+        try {
+            int rowsAffected = writer.execute(() -> {
+                try (Connection conn = pool.getConnection();
+                     PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, id);
+                    return pstmt.executeUpdate();
+                }
+            });
+            DataChangeEvent event = uncacheEmployee(id); // Write-through
+            if (event != null) {
+                changeBus.publish(event);
+            }
+            DELETE_EMPLOYEE.record(start, rowsAffected);
             return rowsAffected > 0;
         } catch (SQLException e) {
+            DELETE_EMPLOYEE.recordError(start);
             System.err.println("Error deleting employee: " + e.getMessage());
             return false;
+        } finally {
+            cacheLock.unlock();
         }
     }
 
     /**
      * Populates a DefaultTableModel with all employees.
+     * Must be called on the Swing Event Dispatch Thread.
      */
     public void loadEmployeesToTable(DefaultTableModel model) {
         model.setRowCount(0); // Clear existing data
-        String sql = "SELECT id, name, position, email FROM employees";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             Statement stmt = conn.createStatement();
+        for (Employee emp : getAllEmployees()) {
+            model.addRow(new Object[]{
+                emp.getId(),
+                emp.getName(),
+                emp.getPosition(),
+                emp.getEmail()
+            });
+        }
+    }
+
+    /**
+     * Fetches all employees with their full details, ordered by ID.
+     * Served from the in-memory directory; safe to call from any thread.
+     * Like every directory read, it does no SQL: other processes' changes
+     * arrive through the cache refresher (see refreshCaches()).
+     */
+    @Override
+    public List<Employee> getAllEmployees() {
+        long start = System.nanoTime();
+        List<Employee> employees = directory.getAll();
+        GET_ALL_EMPLOYEES.record(start, employees.size());
+        return employees;
+    }
+
+    /**
+     * One employee by ID, from the in-memory directory (no SQL).
+     */
+    @Override
+    public Employee getEmployee(int id) {
+        return directory.get(id);
+    }
+
+    /**
+     * Where committed changes are announced (employee added / removed, attendance marked).
+     */
+    @Override
+    public DataChangeBus getChangeBus() {
+        return changeBus;
+    }
+
+    /**
+     * The in-memory employee directory owned by this manager.
+     */
+    public EmployeeDirectory getEmployeeDirectory() {
+        return directory;
+    }
+
+    /**
+     * Opens watchConnection and notes where the change_log ends (called once, at startup).
+     * Also prunes the log: a process that falls further behind than CHANGE_LOG_KEEP
+     * entries reloads its caches instead of replaying them.
+     */
+    private void watchChanges(Connection conn, String dbUrl, Properties watchProps) {
+        Connection watch = null;
+        try (Statement stmt = conn.createStatement()) {
+            watch = DriverManager.getConnection(dbUrl, watchProps);
+            dataVersion = queryLong(watch, "PRAGMA data_version");
+            stmt.executeUpdate("DELETE FROM change_log WHERE seq <= (SELECT MAX(seq) FROM change_log) - " + CHANGE_LOG_KEEP);
+            lastChangeSeq = queryLong(conn, "SELECT COALESCE(MAX(seq), 0) FROM change_log");
+            watchConnection = watch;
+        } catch (SQLException e) {
+            System.err.println("Error watching for changes by other processes: " + e.getMessage());
+            if (watch != null) {
+                try {
+                    watch.close();
+                } catch (SQLException ignored) {
+                    // Already reported above
+                }
+            }
+        }
+    }
+
+    private static long queryLong(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Brings the directory and the bitmap index up to date with changes committed by
+     * other processes sharing the database file (other terminals running MainApp).
+     * Runs every attendance.cacheRefreshMillis on the cacheRefresher thread, and also before
+     * the bitmap reads, summaries and marks, which run off the EDT and need the
+     * latest data. Directory reads never call it: they may run on the EDT, so they
+     * stay pure in-memory and show other processes' changes after the next tick.
+     *
+     * PRAGMA data_version on watchConnection changes whenever another connection
+     * commits, so usually this costs that one query. When it has changed, the new
+     * change_log entries are read together with the current contents of the rows they
+     * name, and whatever differs from the caches is applied and announced on the change
+     * bus. This process's own writes are already in the caches, so they change nothing.
+     * If the database is locked, or another thread is refreshing or writing, the caches
+     * are served as they are and checked again next time.
+     */
+    private void refreshCaches() {
+        if (!cacheLock.tryLock()) {
+            return;
+        }
+        try {
+            Connection conn = watchConnection; // Read under the lock: close() nulls it there
+            if (conn == null) {
+                return;
+            }
+            long version = queryLong(conn, "PRAGMA data_version");
+            if (version != dataVersion) {
+                replayChangeLog(conn);
+                dataVersion = version;
+            }
+        } catch (SQLException e) {
+            if (!DatabaseWriter.isBusy(e)) {
+                System.err.println("Error reading changes by other processes: " + e.getMessage());
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the change_log entries after lastChangeSeq (called by refreshCaches()).
+     */
+    private void replayChangeLog(Connection conn) throws SQLException {
+        // Each entry with the row it names as it is now (no row = deleted)
+        String sql = "SELECT c.employee_id, c.date, e.name, e.position, e.email, a.status FROM change_log c"
+                + " LEFT JOIN employees e ON c.date IS NULL AND e.id = c.employee_id"
+                + " LEFT JOIN attendance a ON a.employee_id = c.employee_id AND a.date = c.date"
+                + " WHERE c.seq > ? ORDER BY c.seq";
+        List<DataChangeEvent> events = new ArrayList<>();
+
+        conn.setAutoCommit(false); // One read transaction, so the log and the rows agree
+        try {
+            long firstSeq = queryLong(conn, "SELECT COALESCE(MIN(seq), 0) FROM change_log");
+            long lastSeq = queryLong(conn, "SELECT COALESCE(MAX(seq), 0) FROM change_log");
+            if (lastSeq <= lastChangeSeq) {
+                return; // Nothing new (e.g. only the daily_summary or admin tables changed)
+            }
+            if (firstSeq > lastChangeSeq + 1) {
+                // The entries this process still needed were pruned: start over
+                directory.loadAll(queryAllEmployees(conn));
+                loadAttendanceIndex(conn);
+            } else {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setLong(1, lastChangeSeq);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            int employeeId = rs.getInt(1);
+                            long epochDay = rs.getLong(2);
+                            DataChangeEvent event;
+                            if (rs.wasNull()) { // An employee row
+                                event = rs.getString(3) == null
+                                        ? uncacheEmployee(employeeId)
+                                        : cacheEmployee(new Employee(employeeId, rs.getString(3), rs.getString(4), rs.getString(5)));
+                            } else {
+                                event = cacheMark(employeeId, epochDay, rs.getString(6));
+                            }
+                            if (event != null) {
+                                events.add(event);
+                            }
+                        }
+                    }
+                }
+            }
+            lastChangeSeq = lastSeq;
+        } finally {
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+        changeBus.publishAll(events);
+    }
+
+    // Cache updates shared by this process's writes and refreshCaches(); callers hold cacheLock.
+    // Each one only applies what differs from the caches and returns the event to announce
+    // (null = nothing changed), so no change is announced twice.
+
+    private DataChangeEvent cacheEmployee(Employee emp) {
+        Employee cached = directory.get(emp.getId());
+        if (cached != null) {
+            // Edited elsewhere (this application never edits employees, so there is no event for it)
+            if (!Objects.equals(cached.getName(), emp.getName()) || !Objects.equals(cached.getPosition(), emp.getPosition())
+                    || !Objects.equals(cached.getEmail(), emp.getEmail())) {
+                directory.put(emp);
+            }
+            return null;
+        }
+        directory.put(emp);
+        attendanceIndex.addEmployee(emp.getId());
+        return DataChangeEvent.employeeAdded(emp);
+    }
+
+    private DataChangeEvent uncacheEmployee(int id) {
+        if (directory.remove(id) == null) {
+            return null;
+        }
+        attendanceIndex.removeEmployee(id);
+        return DataChangeEvent.employeeRemoved(id);
+    }
+
+    // 'status' null = the mark was deleted
+    private DataChangeEvent cacheMark(int employeeId, long epochDay, String status) {
+        if (directory.get(employeeId) == null || Objects.equals(attendanceIndex.statusOf(employeeId, epochDay), status)) {
+            return null;
+        }
+        attendanceIndex.mark(employeeId, epochDay, status);
+        return status == null ? null : DataChangeEvent.attendanceMarked(employeeId, fromEpochDay(epochDay), status);
+    }
+
+    /**
+     * Rebuilds the attendance bitmap index from the attendance table (at startup, and
+     * by refreshCaches() when this process fell too far behind the change_log).
+     * Rows are read in (date, employee_id) order, straight from the covering index.
+     */
+    private void loadAttendanceIndex(Connection conn) {
+        attendanceIndex.clear();
+        for (Employee emp : directory.getAll()) {
+            attendanceIndex.addEmployee(emp.getId()); // Dense ordinals in ID order
+        }
+        String sql = "SELECT date, employee_id, status FROM attendance ORDER BY date, employee_id";
+        try (Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             while (rs.next()) {
-                model.addRow(new Object[]{
-                    rs.getInt("id"),
-                    rs.getString("name"),
-                    rs.getString("position"),
-                    rs.getString("email")
-                });
+                attendanceIndex.mark(rs.getInt(2), rs.getLong(1), rs.getString(3));
             }
         } catch (SQLException e) {
-            System.err.println("Error loading employees: " + e.getMessage());
+            System.err.println("Error loading attendance index: " + e.getMessage());
         }
     }
 
     /**
-     * Fetches all employees for the attendance combo box.
+     * Reads the whole employees table (to load the directory).
      */
-    public List<Employee> getAllEmployeesForAttendance() {
+    private List<Employee> queryAllEmployees(Connection conn) {
         List<Employee> employees = new ArrayList<>();
-        String sql = "SELECT id, name FROM employees";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             Statement stmt = conn.createStatement();
+        String sql = "SELECT id, name, position, email FROM employees";
+        try (Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             while (rs.next()) {
-                employees.add(new Employee(rs.getInt("id"), rs.getString("name")));
+                employees.add(new Employee(
+                        rs.getInt("id"),
+                        rs.getString("name"),
+                        rs.getString("position"),
+                        rs.getString("email")));
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching employees for attendance: " + e.getMessage());
+            System.err.println("Error loading employees: " + e.getMessage());
         }
         return employees;
     }
 
+    /**
+     * Counts all employees (used to size paged tables).
+     */
+    @Override
+    public int countEmployees() {
+        long start = System.nanoTime();
+        int count = directory.size();
+        COUNT_EMPLOYEES.record(start, 1);
+        return count;
+    }
+
+    /**
+     * Fetches one page of employees ordered by ID, starting after 'cursor'
+     * (null = from the first employee). See Page for how cursors work.
+     */
+    @Override
+    public Page<Employee> getEmployeesPage(String cursor, int limit) {
+        long start = System.nanoTime();
+        try {
+            int afterId = cursor == null ? 0 : (int) Page.decodeCursor(EMPLOYEE_CURSOR, cursor);
+            List<Employee> rows = directory.getPageAfter(afterId, limit);
+            GET_EMPLOYEES_PAGE.record(start, rows.size());
+            return new Page<>(rows, nextEmployeeCursor(rows.size() == limit, rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getId()));
+        } catch (IllegalArgumentException e) {
+            GET_EMPLOYEES_PAGE.recordError(start);
+            System.err.println("Error fetching employees page: " + e.getMessage());
+            return Page.empty();
+        }
+    }
+
+    /**
+     * A cursor that starts an employee-ordered listing (getEmployeesPage,
+     * getAttendanceReportPage) at row 'offset', or null for the first row.
+     * Tables use it to jump straight to the rows being shown (e.g. when the
+     * scroll bar is dragged); it is a lookup in the in-memory directory, no SQL.
+     */
+    @Override
+    public String getEmployeeCursor(int offset) {
+        if (offset <= 0) {
+            return null;
+        }
+        int id = directory.getIdAt(offset - 1);
+        // Past the end: a cursor after the last ID gives an empty page
+        return Page.encodeCursor(EMPLOYEE_CURSOR, id >= 0 ? id : Integer.MAX_VALUE);
+    }
+
+    private static String nextEmployeeCursor(boolean fullPage, int lastId) {
+        // A short page is the last one
+        return fullPage ? Page.encodeCursor(EMPLOYEE_CURSOR, lastId) : null;
+    }
+
+    /**
+     * Fetches all employees for the attendance multi-select list.
+     */
+    @Override
+    public List<Employee> getAllEmployeesForAttendance() {
+        return getAllEmployees();
+    }
+
+    /**
+     * Type-ahead search by name or email prefix, for the attendance search box.
+     * Served from the in-memory prefix index (no SQL), so it is fast enough
+     * to call on every keystroke, even on the EDT.
+     */
+    @Override
+    public List<Employee> findEmployeesByPrefix(String query, int limit) {
+        long start = System.nanoTime();
+        List<Employee> matches = directory.search(query, limit);
+        FIND_EMPLOYEES_BY_PREFIX.record(start, matches.size());
+        return matches;
+    }
+
+    /**
+     * Full-text search over employee name, position and email (the employees_fts
+     * index), best matches first.
+     *
+     * Every word of the query must match the start of a word in one of the fields,
+     * in any order and ignoring case and accents: "ann dev" finds "Anna Smith,
+     * Developer". Results are ranked by bm25, with a name match counting more than
+     * an email match and an email match more than a position match.
+     */
+    @Override
+    public List<Employee> searchEmployees(String query, int limit) {
+        long start = System.nanoTime();
+        List<Employee> matches = new ArrayList<>();
+        String match = toFtsPrefixQuery(query);
+        if (match.isEmpty()) {
+            return matches;
+        }
+
+        // bm25() weights follow the column order: name, position, email (lower = better)
+        String sql = "SELECT e.id, e.name, e.position, e.email FROM employees_fts f"
+                + " JOIN employees e ON e.id = f.rowid"
+                + " WHERE employees_fts MATCH ?"
+                + " ORDER BY bm25(employees_fts, 10.0, 2.0, 5.0) LIMIT ?";
+
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, match);
+            pstmt.setInt(2, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    matches.add(new Employee(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+                }
+            }
+            SEARCH_EMPLOYEES.record(start, matches.size());
+        } catch (SQLException e) {
+            SEARCH_EMPLOYEES.recordError(start);
+            System.err.println("Error searching employees: " + e.getMessage());
+        }
+        return matches;
+    }
+
+    /**
+     * Turns what the user typed into an FTS5 query: each word becomes a quoted
+     * prefix term ("ann"*), and all of them must match. Punctuation only separates
+     * words (as in the index), so user input can never be FTS5 syntax.
+     */
+    private static String toFtsPrefixQuery(String query) {
+        StringBuilder match = new StringBuilder();
+        for (String word : query.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                match.append(match.length() == 0 ? "" : " ").append('"').append(word).append("\"*");
+            }
+        }
+        return match.toString();
+    }
+
     /**
      * Marks an employee's attendance.
+     * Fails for a bad date, an unknown status or an unknown employee (see checkMark()).
      * Uses ON CONFLICT to update if an entry for that day already exists.
+     * In write-behind mode the mark is only queued and this returns immediately.
      */
+    @Override
     public boolean markAttendance(int employeeId, String date, String status) {
+        long start = System.nanoTime();
+        AttendanceWriteBehind journal = writeBehind;
+        if (journal != null) {
+            try {
+                checkMark(employeeId, date, status); // Reject bad rows now, not on the writer thread
+            } catch (SQLException e) {
+                MARK_ATTENDANCE.recordError(start);
+                System.err.println("Error marking attendance: " + e.getMessage());
+                return false;
+            }
+            boolean queued = journal.submit(new AttendanceEntry(employeeId, date, status));
+            if (queued) {
+                MARK_ATTENDANCE.record(start, 1);
+            } else {
+                MARK_ATTENDANCE.recordError(start);
+            }
+            return queued;
+        }
+
         // This query inserts a new record.
         // If a record with the same (employee_id, date) already exists (due to UNIQUE constraint),
         // it will update the 'status' of the existing record instead.
         String sql = "INSERT INTO attendance (employee_id, date, status) VALUES (?, ?, ?)"
                 + " ON CONFLICT(employee_id, date) DO UPDATE SET status = excluded.status";
 
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, employeeId);
-            pstmt.setString(2, date);
-            pstmt.setString(3, status);
-            pstmt.executeUpdate();
+        try {
+            long epochDay = checkMark(employeeId, date, status);
+            cacheLock.lock(); // Until the index has the mark (see refreshCaches())
+            try {
+                writer.execute(() -> {
+                    try (Connection conn = pool.getConnection();
+                         PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                        pstmt.setInt(1, employeeId);
+                        pstmt.setLong(2, epochDay);
+                        pstmt.setString(3, status);
+                        return pstmt.executeUpdate();
+                    }
+                });
+                DataChangeEvent event = cacheMark(employeeId, epochDay, status);
+                if (event != null) {
+                    changeBus.publish(event);
+                }
+            } finally {
+                cacheLock.unlock();
+            }
+            MARK_ATTENDANCE.record(start, 1);
             return true;
         } catch (SQLException e) {
+            MARK_ATTENDANCE.recordError(start);
             System.err.println("Error marking attendance: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * checkMark() against this manager's employees, brought up to date first
+     * (the employee may have been added by another process).
+     */
+    long checkMark(int employeeId, String date, String status) throws SQLException {
+        refreshCaches();
+        return checkMark(directory, employeeId, date, status);
+    }
+
+    /**
+     * Checks one attendance mark before it is stored or queued: the date must parse,
+     * the status must be one of AttendanceBitmapIndex.STATUSES and the employee must be
+     * in 'employees'. Returns the date as an epoch day.
+     * Both engines use it (see InMemoryAttendanceRepository), so they accept the same marks.
+     */
+    static long checkMark(EmployeeDirectory employees, int employeeId, String date, String status) throws SQLException {
+        long epochDay = toEpochDay(date);
+        checkStatusAndEmployee(employees, employeeId, status);
+        return epochDay;
+    }
+
+    /**
+     * checkMark() without the date, for callers that have already parsed it.
+     */
+    static void checkStatusAndEmployee(EmployeeDirectory employees, int employeeId, String status) throws SQLException {
+        if (!AttendanceBitmapIndex.isStatus(status)) {
+            throw new SQLException("Unknown attendance status: " + status);
+        }
+        if (employees.get(employeeId) == null) {
+            throw new SQLException("No employee with ID " + employeeId);
+        }
+    }
+
+    /**
+     * Checks the range of a summary: 'to' may be before 'from' (an empty range), but
+     * the range may not be longer than MAX_SUMMARY_DAYS. Used by both engines.
+     */
+    static void checkSummaryRange(long from, long to) throws SQLException {
+        if (to - from + 1 > MAX_SUMMARY_DAYS) {
+            throw new SQLException("Date range too long: " + (to - from + 1) + " days (at most " + MAX_SUMMARY_DAYS + ")");
+        }
+    }
+
+    /**
+     * Checks a new employee before it is stored: name, position and email are required
+     * (the NOT NULL columns). Used by both engines, like checkMark().
+     */
+    static void checkEmployee(String name, String position, String email) throws SQLException {
+        if (name == null || position == null || email == null) {
+            throw new SQLException("Name, position and email are required");
+        }
+    }
+
+    /**
+     * Marks attendance for many employees at once, all or nothing: if any row fails
+     * the checks of markAttendance(), nothing is written.
+     * All rows are sent as one JDBC batch inside a single transaction,
+     * so marking a whole shift costs one commit instead of one per employee.
+     * Uses the same ON CONFLICT rule as markAttendance().
+     */
+    @Override
+    public boolean markAttendanceBatch(List<AttendanceEntry> entries) {
+        if (entries.isEmpty()) {
+            return true;
+        }
+
+        long start = System.nanoTime();
+        String sql = "INSERT INTO attendance (employee_id, date, status) VALUES (?, ?, ?)"
+                + " ON CONFLICT(employee_id, date) DO UPDATE SET status = excluded.status";
+
+        try {
+            // Check every row first (as markAttendance() does), so a bad one fails the batch
+            refreshCaches();
+            long[] epochDays = new long[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                AttendanceEntry entry = entries.get(i);
+                epochDays[i] = checkMark(directory, entry.getEmployeeId(), entry.getDate(), entry.getStatus());
+            }
+            cacheLock.lock(); // Until the index has the marks (see refreshCaches())
+            try {
+                writer.execute(() -> {
+                    try (Connection conn = pool.getConnection()) {
+                        conn.setAutoCommit(false);
+                        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                            for (int i = 0; i < entries.size(); i++) {
+                                AttendanceEntry entry = entries.get(i);
+                                pstmt.setInt(1, entry.getEmployeeId());
+                                pstmt.setLong(2, epochDays[i]);
+                                pstmt.setString(3, entry.getStatus());
+                                pstmt.addBatch();
+                            }
+                            pstmt.executeBatch();
+                            conn.commit();
+                            return null;
+                        } catch (SQLException e) {
+                            conn.rollback(); // All or nothing
+                            throw e;
+                        } finally {
+                            conn.setAutoCommit(true);
+                        }
+                    }
+                });
+
+                // Index (and announce) only once committed
+                List<DataChangeEvent> events = new ArrayList<>(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    AttendanceEntry entry = entries.get(i);
+                    DataChangeEvent event = cacheMark(entry.getEmployeeId(), epochDays[i], entry.getStatus());
+                    if (event != null) {
+                        events.add(event);
+                    }
+                }
+                changeBus.publishAll(events);
+            } finally {
+                cacheLock.unlock();
+            }
+            MARK_ATTENDANCE_BATCH.record(start, entries.size());
+            return true;
+        } catch (SQLException e) {
+            MARK_ATTENDANCE_BATCH.recordError(start);
+            System.err.println("Error marking attendance batch: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Per-day present / absent / on-leave / not-marked counts for 'fromDate'..'toDate'
+     * (inclusive, 'yyyy-MM-dd'). Reads one daily_summary row per day, so the cost
+     * depends on the number of days, not on the number of employees.
+     * Days with no marks at all are included with zero counts.
+     */
+    @Override
+    public List<DailySummary> getDailySummary(String fromDate, String toDate) {
+        long start = System.nanoTime();
+        List<DailySummary> days = new ArrayList<>();
+        flushPendingWrites();
+        refreshCaches(); // For the headcount
+        String sql = "SELECT date, present, absent, on_leave FROM daily_summary"
+                + " WHERE date BETWEEN ? AND ? ORDER BY date";
+
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            long from = toEpochDay(fromDate);
+            long to = toEpochDay(toDate);
+            checkSummaryRange(from, to);
+            pstmt.setLong(1, from);
+            pstmt.setLong(2, to);
+
+            int headcount = directory.size();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                boolean hasRow = rs.next();
+                for (long day = from; day <= to; day++) {
+                    int present = 0;
+                    int absent = 0;
+                    int onLeave = 0;
+                    if (hasRow && rs.getLong(1) == day) {
+                        present = rs.getInt(2);
+                        absent = rs.getInt(3);
+                        onLeave = rs.getInt(4);
+                        hasRow = rs.next();
+                    }
+                    int notMarked = Math.max(0, headcount - present - absent - onLeave);
+                    days.add(new DailySummary(fromEpochDay(day), present, absent, onLeave, notMarked));
+                }
+            }
+            GET_DAILY_SUMMARY.record(start, days.size());
+        } catch (SQLException e) {
+            GET_DAILY_SUMMARY.recordError(start);
+            System.err.println("Error fetching daily summary: " + e.getMessage());
+        }
+        return days;
+    }
+
+    /**
+     * Compares daily_summary with a fresh aggregate of the attendance table.
+     * Returns the dates ('yyyy-MM-dd') whose counts differ (empty = consistent),
+     * or null if the check could not run.
+     */
+    public List<String> verifyDailySummary() {
+        flushPendingWrites();
+        String sql = "SELECT a.date FROM"
+                + " (SELECT date, SUM(status = 'Present') AS present, SUM(status = 'Absent') AS absent,"
+                + "  SUM(status = 'On Leave') AS on_leave FROM attendance GROUP BY date) a"
+                + " LEFT JOIN daily_summary s ON s.date = a.date"
+                + " WHERE s.date IS NULL OR s.present != a.present OR s.absent != a.absent OR s.on_leave != a.on_leave"
+                + " UNION"
+                + " SELECT s.date FROM daily_summary s"
+                + " WHERE (s.present != 0 OR s.absent != 0 OR s.on_leave != 0)"
+                + " AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.date = s.date)"
+                + " ORDER BY 1";
+
+        List<String> mismatches = new ArrayList<>();
+        try (Connection conn = readPool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                mismatches.add(fromEpochDay(rs.getLong(1)));
+            }
+            return mismatches;
+        } catch (SQLException e) {
+            System.err.println("Error verifying daily summary: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Recomputes daily_summary from the attendance table in one transaction.
+     */
+    public boolean rebuildDailySummary() {
+        flushPendingWrites();
+        try {
+            return writer.execute(() -> {
+                try (Connection conn = pool.getConnection()) {
+                    conn.setAutoCommit(false);
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute("DELETE FROM daily_summary");
+                        stmt.execute(REBUILD_DAILY_SUMMARY_SQL);
+                        conn.commit();
+                        return true;
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        throw e;
+                    } finally {
+                        conn.setAutoCommit(true);
+                    }
+                }
+            });
+        } catch (SQLException e) {
+            System.err.println("Error rebuilding daily summary: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * How many days one employee has been present / absent / on leave in total,
+     * in AttendanceBitmapIndex.STATUSES order. Reads only that employee's rows
+     * (through the UNIQUE(employee_id, date) index).
+     */
+    @Override
+    public int[] getEmployeeStatusCounts(int employeeId) {
+        long start = System.nanoTime();
+        int[] counts = new int[AttendanceBitmapIndex.STATUSES.length];
+        flushPendingWrites();
+        String sql = "SELECT status, COUNT(*) FROM attendance WHERE employee_id = ? GROUP BY status";
+
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, employeeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int index = Arrays.asList(AttendanceBitmapIndex.STATUSES).indexOf(rs.getString(1));
+                    if (index >= 0) {
+                        counts[index] = rs.getInt(2);
+                    }
+                }
+            }
+            GET_EMPLOYEE_STATUS_COUNTS.record(start, counts.length);
+        } catch (SQLException e) {
+            GET_EMPLOYEE_STATUS_COUNTS.recordError(start);
+            System.err.println("Error counting employee attendance: " + e.getMessage());
+        }
+        return counts;
+    }
+
+    /**
+     * Present / absent / on-leave headcounts for one day ('yyyy-MM-dd'), in
+     * AttendanceBitmapIndex.STATUSES order. Served from the bitmap index; the only
+     * SQL is refreshCaches()'s change check, so call it off the EDT.
+     */
+    @Override
+    public int[] getDailyStatusCounts(String date) {
+        long start = System.nanoTime();
+        flushPendingWrites();
+        refreshCaches();
+        try {
+            int[] counts = attendanceIndex.countAll(toEpochDay(date));
+            GET_DAILY_STATUS_COUNTS.record(start, counts.length);
+            return counts;
+        } catch (SQLException e) {
+            GET_DAILY_STATUS_COUNTS.recordError(start);
+            System.err.println("Error counting attendance: " + e.getMessage());
+            return new int[AttendanceBitmapIndex.STATUSES.length];
+        }
+    }
+
+    /**
+     * How many employees had 'status' on each day from 'fromDate' to 'toDate'
+     * (inclusive, 'yyyy-MM-dd'), e.g. "present per day in Q3".
+     */
+    public int[] getDailyCounts(String fromDate, String toDate, String status) {
+        flushPendingWrites();
+        refreshCaches();
+        try {
+            return attendanceIndex.countPerDay(toEpochDay(fromDate), toEpochDay(toDate), status);
+        } catch (SQLException e) {
+            System.err.println("Error counting attendance: " + e.getMessage());
+            return new int[0];
+        }
+    }
+
+    /**
+     * Employees who had 'status' on every day of the range.
+     */
+    public List<Employee> getEmployeesWithStatusOnAllDays(String fromDate, String toDate, String status) {
+        flushPendingWrites();
+        refreshCaches();
+        try {
+            return toEmployees(attendanceIndex.onAllDays(toEpochDay(fromDate), toEpochDay(toDate), status));
+        } catch (SQLException e) {
+            System.err.println("Error querying attendance index: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Employees who had 'status' on at least one day of the range.
+     */
+    public List<Employee> getEmployeesWithStatusOnAnyDay(String fromDate, String toDate, String status) {
+        flushPendingWrites();
+        refreshCaches();
+        try {
+            return toEmployees(attendanceIndex.onAnyDay(toEpochDay(fromDate), toEpochDay(toDate), status));
+        } catch (SQLException e) {
+            System.err.println("Error querying attendance index: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Employees who had 'status' on 'days' consecutive days within the range
+     * (e.g. absent three days in a row).
+     */
+    public List<Employee> getEmployeesWithStreak(String fromDate, String toDate, String status, int days) {
+        flushPendingWrites();
+        refreshCaches();
+        try {
+            return toEmployees(attendanceIndex.onConsecutiveDays(toEpochDay(fromDate), toEpochDay(toDate), status, days));
+        } catch (SQLException e) {
+            System.err.println("Error querying attendance index: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private List<Employee> toEmployees(int[] ids) {
+        List<Employee> employees = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Employee emp = directory.get(id);
+            if (emp != null) {
+                employees.add(emp);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * The in-memory attendance bitmap index owned by this manager.
+     */
+    public AttendanceBitmapIndex getAttendanceIndex() {
+        return attendanceIndex;
+    }
+
     /**
      * Populates a DefaultTableModel with an attendance report for a specific date.
+     * Must be called on the Swing Event Dispatch Thread.
      */
     public void loadAttendanceReport(DefaultTableModel model, String date) {
         model.setRowCount(0); // Clear existing data
+        for (ReportRow row : getAttendanceReport(date)) {
+            model.addRow(new Object[]{
+                row.getEmployeeName(),
+                row.getStatus()
+            });
+        }
+    }
+
+    /**
+     * Fetches the attendance report for a specific date.
+     * Safe to call from any thread (it does not touch Swing).
+     */
+    @Override
+    public List<ReportRow> getAttendanceReport(String date) {
+        long start = System.nanoTime();
+        List<ReportRow> rows = new ArrayList<>();
+        flushPendingWrites();
 
         // SQL to get all employees and JOIN their attendance status for the given date
         // Use LEFT JOIN to include employees who have NOT been marked yet (status will be NULL)
-        String sql = "SELECT e.name, a.status FROM employees e "
+        String sql = "SELECT e.id, e.name, a.status FROM employees e "
                 + " LEFT JOIN attendance a ON e.id = a.employee_id AND a.date = ?";
 
-        try (Connection conn = DriverManager.getConnection(DB_URL);
+        try (Connection conn = readPool.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, date);
+            pstmt.setLong(1, toEpochDay(date));
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
@@ -227,43 +1680,216 @@ public class DatabaseManager {
                     if (status == null) {
                         status = "Not Marked"; // Default for employees with no entry
                     }
-                    model.addRow(new Object[]{
-                        rs.getString("name"),
-                        status
-                    });
+                    rows.add(new ReportRow(rs.getInt("id"), rs.getString("name"), status));
                 }
             }
+            GET_ATTENDANCE_REPORT.record(start, rows.size());
         } catch (SQLException e) {
+            GET_ATTENDANCE_REPORT.recordError(start);
             System.err.println("Error fetching attendance report: " + e.getMessage());
         }
+        return rows;
     }
 
     /**
-     * A simple helper class to store Employee ID and Name for ComboBoxes.
+     * Fetches one page of the attendance report for a specific date, ordered by
+     * employee ID, starting after 'cursor' (null = from the first employee).
+     * There is one report row per employee, so countEmployees() gives the total.
+     *
+     * Seeks on the employees primary key ("e.id > ?") and looks each status up
+     * through the UNIQUE(employee_id, date) index, so every page costs the same
+     * however many employees or attendance rows there are.
      */
-    public static class Employee {
+    @Override
+    public Page<ReportRow> getAttendanceReportPage(String date, String cursor, int limit) {
+        long start = System.nanoTime();
+        List<ReportRow> rows = new ArrayList<>(limit);
+        flushPendingWrites();
+        String sql = "SELECT e.id, e.name, a.status FROM employees e "
+                + " LEFT JOIN attendance a ON e.id = a.employee_id AND a.date = ?"
+                + " WHERE e.id > ?"
+                + " ORDER BY e.id LIMIT ?";
 
-        private int id;
-        private String name;
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, toEpochDay(date));
+            pstmt.setLong(2, cursor == null ? 0 : Page.decodeCursor(EMPLOYEE_CURSOR, cursor));
+            pstmt.setInt(3, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String status = rs.getString("status");
+                    rows.add(new ReportRow(rs.getInt("id"), rs.getString("name"), status == null ? "Not Marked" : status));
+                }
+            }
+            GET_ATTENDANCE_REPORT_PAGE.record(start, rows.size());
+            int lastId = rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getEmployeeId();
+            return new Page<>(rows, nextEmployeeCursor(rows.size() == limit, lastId));
+        } catch (SQLException | IllegalArgumentException e) {
+            GET_ATTENDANCE_REPORT_PAGE.recordError(start);
+            System.err.println("Error fetching attendance report page: " + e.getMessage());
+            return Page.empty();
+        }
+    }
 
-        public Employee(int id, String name) {
-            this.id = id;
-            this.name = name;
+    /**
+     * Fetches one page of an employee's attendance history, newest day first,
+     * starting after 'cursor' (null = from the most recent day).
+     * Seeks through the UNIQUE(employee_id, date) index, so the cost per page
+     * does not grow with the length of the history.
+     */
+    @Override
+    public Page<AttendanceEntry> getAttendanceHistory(int employeeId, String cursor, int limit) {
+        long start = System.nanoTime();
+        List<AttendanceEntry> rows = new ArrayList<>(limit);
+        flushPendingWrites();
+        String sql = "SELECT date, status FROM attendance"
+                + " WHERE employee_id = ? AND date < ?"
+                + " ORDER BY date DESC LIMIT ?";
+
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, employeeId);
+            pstmt.setLong(2, cursor == null ? Long.MAX_VALUE : Page.decodeCursor(DAY_CURSOR, cursor));
+            pstmt.setInt(3, limit);
+            long lastDay = 0;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    lastDay = rs.getLong(1);
+                    rows.add(new AttendanceEntry(employeeId, fromEpochDay(lastDay), rs.getString(2)));
+                }
+            }
+            GET_ATTENDANCE_HISTORY.record(start, rows.size());
+            return new Page<>(rows, rows.size() == limit ? Page.encodeCursor(DAY_CURSOR, lastDay) : null);
+        } catch (SQLException | IllegalArgumentException e) {
+            GET_ATTENDANCE_HISTORY.recordError(start);
+            System.err.println("Error fetching attendance history: " + e.getMessage());
+            return Page.empty();
         }
+    }
+
+    /**
+     * Builds a per-employee attendance summary (present / absent / on leave counts)
+     * for all days from 'fromDate' to 'toDate' inclusive, both 'yyyy-MM-dd'.
+     *
+     * Each chunk of the range is aggregated by a single GROUP BY query over the
+     * (date, employee_id, status) index; large ranges are split into chunks that run
+     * in parallel on separate pooled connections (at most SUMMARY_PARALLELISM at once)
+     * and are then added together. Ranges over MAX_SUMMARY_DAYS fail.
+     */
+    @Override
+    public List<AttendanceSummary> getAttendanceSummary(String fromDate, String toDate) {
+        long startNanos = System.nanoTime();
+        List<AttendanceSummary> summaries = new ArrayList<>();
+        flushPendingWrites();
+        try {
+            long from = toEpochDay(fromDate);
+            long to = toEpochDay(toDate);
+            checkSummaryRange(from, to);
+            if (to < from) {
+                GET_ATTENDANCE_SUMMARY.record(startNanos, 0);
+                return summaries;
+            }
+
+            // 1. Aggregate the chunks, a few at a time: employee id -> {present, absent, leave}
+            Map<Integer, int[]> totals = new HashMap<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(SUMMARY_PARALLELISM, Thread.ofVirtual().factory())) {
+                List<Future<Map<Integer, int[]>>> chunks = new ArrayList<>();
+                for (long start = from; start <= to; start += SUMMARY_CHUNK_DAYS) {
+                    long chunkStart = start;
+                    long chunkEnd = Math.min(start + SUMMARY_CHUNK_DAYS - 1, to);
+                    chunks.add(executor.submit(() -> countStatuses(chunkStart, chunkEnd)));
+                }
+                for (Future<Map<Integer, int[]>> chunk : chunks) {
+                    chunk.get().forEach((id, counts) -> totals.merge(id, counts, (a, b) -> {
+                        a[0] += b[0];
+                        a[1] += b[1];
+                        a[2] += b[2];
+                        return a;
+                    }));
+                }
+            }
 
-        public int getId() {
-            return id;
+            // 2. One row per employee, including those with no records in the range
+            for (Employee emp : getAllEmployeesForAttendance()) {
+                int[] counts = totals.getOrDefault(emp.getId(), new int[3]);
+                summaries.add(new AttendanceSummary(emp.getId(), emp.getName(), counts[0], counts[1], counts[2]));
+            }
+            GET_ATTENDANCE_SUMMARY.record(startNanos, summaries.size());
+        } catch (SQLException | ExecutionException e) {
+            GET_ATTENDANCE_SUMMARY.recordError(startNanos);
+            System.err.println("Error building attendance summary: " + e.getMessage());
+        } catch (InterruptedException e) {
+            GET_ATTENDANCE_SUMMARY.recordError(startNanos);
+            Thread.currentThread().interrupt();
         }
+        return summaries;
+    }
+
+    /**
+     * Streams attendance rows for 'fromDate'..'toDate' (inclusive, 'yyyy-MM-dd') to an
+     * export writer, ordered by date then employee ID (the index order, so SQLite does
+     * not have to sort). Only recorded marks are exported, whatever the range: employees
+     * without a mark on a day have no row for it (the daily report shows them as
+     * "Not Marked"). A one-day export has the same shape as a longer one.
+     *
+     * Rows are read through a forward-only cursor and written one at a time, so an export
+     * of any size never builds up on the heap. Setting 'cancelled' stops it early.
+     * Returns the number of rows written, or -1 if the export failed.
+     */
+    @Override
+    public long exportAttendance(String fromDate, String toDate, AttendanceExportWriter out, AtomicBoolean cancelled) {
+        long start = System.nanoTime();
+        flushPendingWrites();
+        String sql = "SELECT a.date, e.name, a.status FROM attendance a"
+                + " JOIN employees e ON e.id = a.employee_id"
+                + " WHERE a.date BETWEEN ? AND ?"
+                + " ORDER BY a.date, a.employee_id";
+
+        long rows = 0;
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            pstmt.setFetchSize(EXPORT_FETCH_SIZE);
+            pstmt.setLong(1, toEpochDay(fromDate));
+            pstmt.setLong(2, toEpochDay(toDate));
 
-        public String getName() {
-            return name;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (cancelled.get()) {
+                        break;
+                    }
+                    out.writeRow(fromEpochDay(rs.getLong(1)), rs.getString(2), rs.getString(3));
+                    rows++;
+                }
+            }
+            EXPORT_ATTENDANCE.record(start, rows);
+            return rows;
+        } catch (SQLException | IOException e) {
+            EXPORT_ATTENDANCE.recordError(start);
+            System.err.println("Error exporting attendance: " + e.getMessage());
+            return -1;
         }
+    }
 
-        // This is crucial: JComboBox uses toString() to display the item name
-        @Override
-        public String toString() {
-            return name;
+    /**
+     * Counts statuses per employee between two epoch days (inclusive) with one grouped query.
+     */
+    private Map<Integer, int[]> countStatuses(long fromEpochDay, long toEpochDay) throws SQLException {
+        Map<Integer, int[]> counts = new HashMap<>();
+        String sql = "SELECT employee_id,"
+                + " SUM(status = 'Present'), SUM(status = 'Absent'), SUM(status = 'On Leave')"
+                + " FROM attendance WHERE date BETWEEN ? AND ?"
+                + " GROUP BY employee_id";
+
+        try (Connection conn = readPool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, fromEpochDay);
+            pstmt.setLong(2, toEpochDay);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getInt(1), new int[]{rs.getInt(2), rs.getInt(3), rs.getInt(4)});
+                }
+            }
         }
+        return counts;
     }
 }
-
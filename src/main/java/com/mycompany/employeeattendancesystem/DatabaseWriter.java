@@ -0,0 +1,224 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs every database write of this process on one dedicated thread.
+ *
+ * SQLite allows one writer at a time per database file. Inside one process the
+ * writes now simply queue up here instead of competing for the lock. Between
+ * processes (several MainApp terminals on a shared attendance.db) the connections'
+ * busy_timeout makes SQLite wait for the lock first; if a write still fails with
+ * SQLITE_BUSY / "database is locked" it is rolled back by the caller's code, and
+ * retried here after a randomized, exponentially growing pause ("full jitter"), so
+ * competing processes spread out instead of retrying in lock-step. Only when the
+ * lock stays taken for longer than the retry time does the write fail.
+ *
+ * Contention is counted (queue wait, retries, backoff time) and published over JMX.
+ */
+public class DatabaseWriter implements AutoCloseable, DatabaseWriterMBean {
+
+    // Backoff after the n-th busy failure: random between 0 and min(MAX, BASE * 2^n)
+    private static final long BASE_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    // SQLite result codes (the low byte of extended codes such as SQLITE_BUSY_SNAPSHOT)
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+
+    /**
+     * A unit of work that writes to the database. It must leave nothing behind
+     * when it fails (roll back its transaction), since it may be run again.
+     */
+    public interface WriteTask<T> {
+
+        T run() throws SQLException;
+    }
+
+    private final long maxRetryNanos;
+    private final ThreadPoolExecutor executor;
+    private volatile Thread writerThread;
+
+    // Statistics
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final LongAdder contendedWrites = new LongAdder();
+    private final LongAdder busyRetries = new LongAdder();
+    private final LongAdder busyFailures = new LongAdder();
+    private final LongAdder backoffMillis = new LongAdder();
+
+    /**
+     * 'maxRetryMillis' is how long one write keeps retrying while the database is locked.
+     */
+    public DatabaseWriter(long maxRetryMillis) {
+        this.maxRetryNanos = TimeUnit.MILLISECONDS.toNanos(maxRetryMillis);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "db-writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the write on the writer thread and waits for its result.
+     * Throws the write's SQLException if it failed for another reason than a
+     * locked database, or once the retry time has run out.
+     */
+    public <T> T execute(WriteTask<T> task) throws SQLException {
+        if (Thread.currentThread() == writerThread) {
+            return runWithRetry(task, System.nanoTime()); // A write that starts another write
+        }
+
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> runWithRetry(task, queuedAt));
+        } catch (RejectedExecutionException e) {
+            throw new SQLException("Database writer is closed");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the database writer", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    private <T> T runWithRetry(WriteTask<T> task, long queuedAt) throws SQLException {
+        long startedAt = System.nanoTime();
+        long waited = startedAt - queuedAt;
+        queueWaitNanos.add(waited);
+        maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+        writeCount.increment();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return task.run();
+            } catch (SQLException e) {
+                if (!isBusy(e)) {
+                    throw e;
+                }
+                if (attempt == 0) {
+                    contendedWrites.increment();
+                }
+                if (System.nanoTime() - startedAt >= maxRetryNanos) {
+                    busyFailures.increment();
+                    throw e;
+                }
+                busyRetries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws SQLException {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 20));
+        long sleep = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        backoffMillis.add(sleep);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the database lock", e);
+        }
+    }
+
+    /**
+     * True if the write failed because another connection holds the database lock.
+     */
+    static boolean isBusy(SQLException e) {
+        int code = e.getErrorCode() & 0xff;
+        if (code == SQLITE_BUSY || code == SQLITE_LOCKED) {
+            return true;
+        }
+        String message = e.getMessage();
+        return message != null && (message.contains("SQLITE_BUSY") || message.contains("database is locked"));
+    }
+
+    /**
+     * One line of statistics, for logging.
+     */
+    public String getStats() {
+        return String.format("Database writer: %d writes, avg queue wait %.1f us (max %.1f us),"
+                + " %d contended, %d busy retries, %d busy failures, %d ms backoff",
+                getWriteCount(), getAverageQueueWaitMicros(), getMaxQueueWaitMicros(),
+                getContendedWriteCount(), getBusyRetryCount(), getBusyFailureCount(), getTotalBackoffMillis());
+    }
+
+    @Override
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    @Override
+    public int getQueueLength() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public double getAverageQueueWaitMicros() {
+        long count = writeCount.sum();
+        return count == 0 ? 0 : queueWaitNanos.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public double getMaxQueueWaitMicros() {
+        return maxQueueWaitNanos.get() / 1000.0;
+    }
+
+    @Override
+    public long getContendedWriteCount() {
+        return contendedWrites.sum();
+    }
+
+    @Override
+    public long getBusyRetryCount() {
+        return busyRetries.sum();
+    }
+
+    @Override
+    public long getBusyFailureCount() {
+        return busyFailures.sum();
+    }
+
+    @Override
+    public long getTotalBackoffMillis() {
+        return backoffMillis.sum();
+    }
+
+    /**
+     * Lets queued writes finish, then stops the writer thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(maxRetryNanos + TimeUnit.SECONDS.toNanos(5), TimeUnit.NANOSECONDS)) {
+                System.err.println("Database writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
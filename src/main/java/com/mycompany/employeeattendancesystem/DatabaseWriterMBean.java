@@ -0,0 +1,30 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * JMX view of a DatabaseWriter: how many writes it ran, how long they queued
+ * behind each other, and how often another process held the database lock.
+ */
+public interface DatabaseWriterMBean {
+
+    long getWriteCount();
+
+    int getQueueLength();
+
+    double getAverageQueueWaitMicros();
+
+    double getMaxQueueWaitMicros();
+
+    /**
+     * Writes that found the database locked at least once (and were retried).
+     */
+    long getContendedWriteCount();
+
+    long getBusyRetryCount();
+
+    /**
+     * Writes that were still locked out when the retry time ran out.
+     */
+    long getBusyFailureCount();
+
+    long getTotalBackoffMillis();
+}
@@ -0,0 +1,46 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * A simple helper class to store Employee ID and Name for ComboBoxes.
+ * Position and email are filled in when the full record is loaded.
+ */
+public class Employee {
+
+    private int id;
+    private String name;
+    private String position;
+    private String email;
+
+    public Employee(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Employee(int id, String name, String position, String email) {
+        this(id, name);
+        this.position = position;
+        this.email = email;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    // This is crucial: JComboBox uses toString() to display the item name
+    @Override
+    public String toString() {
+        return name;
+    }
+}
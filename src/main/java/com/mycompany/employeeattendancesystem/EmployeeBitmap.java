@@ -0,0 +1,137 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.Arrays;
+
+/**
+ * A set of employee ordinals (0, 1, 2, ...), stored compactly.
+ *
+ * While the set is sparse (e.g. the few people absent on a day) it is a sorted
+ * int array; once that array would take more memory than a plain bitmap, it
+ * switches to a long[] bitmap (e.g. everyone present on a day). This is the
+ * same idea as a Roaring bitmap container, without the extra dependency.
+ *
+ * Not thread-safe: AttendanceBitmapIndex guards all access with its lock.
+ */
+class EmployeeBitmap {
+
+    // Sparse form: sorted ordinals, used while 'words' is null
+    private int[] array = new int[4];
+    private int size;
+    // Dense form: bit i set = ordinal i is in the set
+    private long[] words;
+    private int cardinality;
+
+    void add(int ordinal) {
+        if (words != null) {
+            int index = ordinal >>> 6;
+            if (index >= words.length) {
+                words = Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+            }
+            long bit = 1L << ordinal;
+            if ((words[index] & bit) == 0) {
+                words[index] |= bit;
+                cardinality++;
+            }
+            return;
+        }
+
+        int pos = Arrays.binarySearch(array, 0, size, ordinal);
+        if (pos >= 0) {
+            return; // Already there
+        }
+        pos = -pos - 1;
+        if (size == array.length) {
+            int maxOrdinal = Math.max(ordinal, array[size - 1]);
+            // An int takes 4 bytes, a bitmap 1 bit per possible ordinal
+            if (size >= 2 * wordCount(maxOrdinal + 1)) {
+                convertToWords();
+                add(ordinal);
+                return;
+            }
+            array = Arrays.copyOf(array, size * 2);
+        }
+        System.arraycopy(array, pos, array, pos + 1, size - pos);
+        array[pos] = ordinal;
+        size++;
+        cardinality++;
+    }
+
+    void remove(int ordinal) {
+        if (words != null) {
+            int index = ordinal >>> 6;
+            long bit = 1L << ordinal;
+            if (index < words.length && (words[index] & bit) != 0) {
+                words[index] &= ~bit;
+                cardinality--;
+            }
+            return;
+        }
+
+        int pos = Arrays.binarySearch(array, 0, size, ordinal);
+        if (pos >= 0) {
+            System.arraycopy(array, pos + 1, array, pos, size - pos - 1);
+            size--;
+            cardinality--;
+        }
+    }
+
+    boolean contains(int ordinal) {
+        if (words != null) {
+            int index = ordinal >>> 6;
+            return index < words.length && (words[index] & (1L << ordinal)) != 0;
+        }
+        return Arrays.binarySearch(array, 0, size, ordinal) >= 0;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * target |= this
+     */
+    void orInto(long[] target) {
+        if (words != null) {
+            for (int i = 0; i < Math.min(words.length, target.length); i++) {
+                target[i] |= words[i];
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                int ordinal = array[i];
+                if ((ordinal >>> 6) < target.length) {
+                    target[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+        }
+    }
+
+    /**
+     * target &= this
+     */
+    void andInto(long[] target) {
+        if (words != null) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= i < words.length ? words[i] : 0;
+            }
+        } else {
+            long[] mask = new long[target.length];
+            orInto(mask);
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= mask[i];
+            }
+        }
+    }
+
+    private void convertToWords() {
+        words = new long[wordCount(array[size - 1] + 1)];
+        for (int i = 0; i < size; i++) {
+            words[array[i] >>> 6] |= 1L << array[i];
+        }
+        array = null;
+        size = 0;
+    }
+
+    static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
@@ -0,0 +1,310 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Streams employees from a CSV file into the database.
+ *
+ * The file is read one record at a time and inserted in batches, so memory use
+ * stays flat no matter how large the file is. The first line must be a header
+ * containing "name", "position" and "email" columns (in any order; extra
+ * columns are ignored). Quoted fields ("Smith, John") are supported.
+ *
+ * Invalid rows and emails that already exist are counted and reported,
+ * but never abort the import.
+ */
+public class EmployeeCsvImporter {
+
+    private static final int BATCH_SIZE = 1000;
+    // Only the first few problems are kept as messages, to keep memory flat
+    private static final int MAX_MESSAGES = 100;
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+
+    /**
+     * Receives progress updates (called on the importing thread, once per batch).
+     */
+    public interface ProgressListener {
+
+        void onProgress(long rowsRead, long bytesRead, long totalBytes);
+    }
+
+    private final AttendanceRepository dbManager;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    public EmployeeCsvImporter(AttendanceRepository dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    /**
+     * Asks a running import to stop after the current batch
+     * (the rows already saved stay; see ImportResult.isCancelled()).
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    /**
+     * Imports the file. Runs on the calling thread, so call it from a background thread.
+     */
+    public ImportResult importFile(Path file, ProgressListener listener) throws IOException {
+        ImportResult result = new ImportResult();
+        long totalBytes = Files.size(file);
+
+        try (CountingInputStream counter = new CountingInputStream(Files.newInputStream(file));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8), 64 * 1024)) {
+            RecordReader records = new RecordReader(reader);
+
+            // 1. Header: find the column positions
+            List<String> header = records.next();
+            if (header == null) {
+                throw new IOException("The file is empty");
+            }
+            int nameCol = indexOf(header, "name");
+            int positionCol = indexOf(header, "position");
+            int emailCol = indexOf(header, "email");
+            if (nameCol < 0 || positionCol < 0 || emailCol < 0) {
+                throw new IOException("Header must contain name, position and email columns");
+            }
+
+            // 2. Records, one batch at a time
+            List<Employee> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> record;
+            while (!cancelled.get() && (record = records.next()) != null) {
+                // Messages name the line the record starts on (a quoted field may span several)
+                long line = records.getStartLine();
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue; // Empty line
+                }
+                result.rowsRead++;
+
+                String name = field(record, nameCol);
+                String position = field(record, positionCol);
+                String email = field(record, emailCol);
+                if (name.isEmpty() || position.isEmpty() || email.isEmpty()) {
+                    result.addInvalid("Line " + line + ": name, position and email are required");
+                    continue;
+                }
+                if (!EMAIL.matcher(email).matches()) {
+                    result.addInvalid("Line " + line + ": invalid email '" + email + "'");
+                    continue;
+                }
+
+                batch.add(new Employee(0, name, position, email));
+                if (batch.size() == BATCH_SIZE) {
+                    insertBatch(batch, result);
+                    listener.onProgress(result.rowsRead, counter.getCount(), totalBytes);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                insertBatch(batch, result);
+            }
+            result.cancelled = cancelled.get();
+            listener.onProgress(result.rowsRead, counter.getCount(), totalBytes);
+        }
+        return result;
+    }
+
+    private void insertBatch(List<Employee> batch, ImportResult result) {
+        List<String> duplicates = new ArrayList<>();
+        int inserted = dbManager.addEmployeesBatch(batch, duplicates);
+        if (inserted < 0) {
+            result.failed += batch.size();
+            result.addMessage("A batch of " + batch.size() + " rows could not be saved");
+        } else {
+            result.inserted += inserted;
+            for (String email : duplicates) {
+                result.duplicates++;
+                result.addMessage("Duplicate email (already exists): " + email);
+            }
+        }
+        batch.clear();
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            // Ignore case, spaces and a UTF-8 byte order mark (added by Excel)
+            if (header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> record, int index) {
+        return index < record.size() ? record.get(index).trim() : "";
+    }
+
+    /**
+     * Reads CSV records (RFC 4180 style: quoted fields may contain commas,
+     * doubled quotes and line breaks) and keeps count of the physical lines.
+     */
+    static class RecordReader {
+
+        private final BufferedReader reader;
+        private long line = 1;      // Physical line the reader is on
+        private long startLine = 1; // Physical line the last record started on
+
+        RecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * The physical line (1-based) the last record returned by next() started on.
+         */
+        long getStartLine() {
+            return startLine;
+        }
+
+        /**
+         * Reads one record. Returns null at end of file.
+         */
+        List<String> next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            startLine = line;
+
+            while (c != -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                if (inQuotes) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"'); // Escaped quote
+                        } else {
+                            inQuotes = false;
+                            if (next == -1) {
+                                break;
+                            }
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    /**
+     * Summary of one import.
+     */
+    public static class ImportResult {
+
+        private long rowsRead;
+        private long inserted;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+        private boolean cancelled;
+        private final List<String> messages = new ArrayList<>();
+
+        private void addInvalid(String message) {
+            invalid++;
+            addMessage(message);
+        }
+
+        private void addMessage(String message) {
+            if (messages.size() < MAX_MESSAGES) {
+                messages.add(message);
+            }
+        }
+
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        public long getInserted() {
+            return inserted;
+        }
+
+        public long getDuplicates() {
+            return duplicates;
+        }
+
+        public long getInvalid() {
+            return invalid;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * The first problems found (at most 100).
+         */
+        public List<String> getMessages() {
+            return messages;
+        }
+    }
+
+    /**
+     * Counts bytes read so progress can be shown as a percentage of the file size.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
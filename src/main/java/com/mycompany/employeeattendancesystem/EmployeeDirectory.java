@@ -0,0 +1,117 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An in-memory copy of the employees table, keyed (and ordered) by employee ID.
+ * It is owned by DatabaseManager: loaded once at startup, then updated in place
+ * whenever an employee is added or deleted, so reads never need SQL.
+ *
+ * Safe to use from any thread. Reads are lock-free once the snapshot is built.
+ */
+public class EmployeeDirectory {
+
+    private final ConcurrentSkipListMap<Integer, Employee> employees = new ConcurrentSkipListMap<>();
+
+    // Name/email prefix index for type-ahead search; updated together with "employees"
+    private final EmployeeSearchIndex searchIndex = new EmployeeSearchIndex();
+
+    // Sorted array view for fast paging; rebuilt lazily after a change
+    private volatile Employee[] snapshot;
+
+    /**
+     * Replaces the whole directory (used at startup).
+     */
+    public synchronized void loadAll(Collection<Employee> all) {
+        employees.clear();
+        searchIndex.clear();
+        for (Employee emp : all) {
+            employees.put(emp.getId(), emp);
+            searchIndex.add(emp);
+        }
+        snapshot = null;
+    }
+
+    public synchronized void put(Employee emp) {
+        Employee previous = employees.put(emp.getId(), emp);
+        if (previous != null) {
+            searchIndex.remove(previous);
+        }
+        searchIndex.add(emp);
+        snapshot = null;
+    }
+
+    public synchronized Employee remove(int id) {
+        Employee removed = employees.remove(id);
+        if (removed != null) {
+            searchIndex.remove(removed);
+        }
+        snapshot = null;
+        return removed;
+    }
+
+    public Employee get(int id) {
+        return employees.get(id);
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * All employees ordered by ID (a read-only list).
+     */
+    public List<Employee> getAll() {
+        return Collections.unmodifiableList(Arrays.asList(getSnapshot()));
+    }
+
+    /**
+     * Up to "limit" employees with an ID greater than "afterId", ordered by ID.
+     * Seeks straight to "afterId" in the sorted map, so every page costs the same.
+     */
+    public List<Employee> getPageAfter(int afterId, int limit) {
+        List<Employee> page = new ArrayList<>(Math.min(limit, 1024));
+        for (Employee emp : employees.tailMap(afterId, false).values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(emp);
+        }
+        return page;
+    }
+
+    /**
+     * The ID of the employee at "index" in ID order, or -1 if there is none.
+     */
+    public int getIdAt(int index) {
+        Employee[] all = getSnapshot();
+        return index >= 0 && index < all.length ? all[index].getId() : -1;
+    }
+
+    /**
+     * Type-ahead search: up to "limit" employees whose name, a word of their name,
+     * or email starts with the query (ignoring case).
+     */
+    public List<Employee> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    private Employee[] getSnapshot() {
+        Employee[] current = snapshot;
+        if (current == null) {
+            // Built under the same lock as writes, so a stale array is never published
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = employees.values().toArray(new Employee[0]);
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
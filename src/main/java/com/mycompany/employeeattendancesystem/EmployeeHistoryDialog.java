@@ -0,0 +1,211 @@
+package com.mycompany.employeeattendancesystem;
+
+
+import static com.mycompany.employeeattendancesystem.MainApp.*;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.BorderFactory;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingConstants;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * Shows one employee's attendance history, newest day first.
+ *
+ * The rows are streamed: the dialog opens with the first page only, and the next
+ * page is fetched (with the keyset cursor from getAttendanceHistory) when the user
+ * scrolls close to the end of what is loaded. Opening it costs the same for a new
+ * hire as for someone with ten years of records.
+ *
+ * Each row also shows the running totals from the newest day down to that row;
+ * the header shows the totals for the whole history.
+ */
+public class EmployeeHistoryDialog extends JDialog {
+
+    // Rows fetched per page, and how close to the end the next page is requested
+    private static final int PAGE_SIZE = 200;
+    private static final int PREFETCH_ROWS = 50;
+
+    private final AsyncDatabaseManager dbManager;
+    private final Employee employee;
+    private final HistoryTableModel model = new HistoryTableModel();
+    private final JLabel totalsLabel = new JLabel("Loading...");
+    private final JLabel loadedLabel = new JLabel(" ");
+
+    public EmployeeHistoryDialog(Window owner, AsyncDatabaseManager dbManager, Employee employee) {
+        super(owner, "Attendance History - " + employee.getName(), ModalityType.MODELESS);
+        this.dbManager = dbManager;
+        this.employee = employee;
+
+        initComponents();
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(new Dimension(640, 520));
+        setLocationRelativeTo(owner);
+
+        // First page and the overall totals load in the background
+        model.loadMore();
+        dbManager.getEmployeeStatusCounts(employee.getId()).whenCompleteAsync((counts, error) -> {
+            if (error != null) {
+                System.err.println("Error loading attendance totals: " + error.getMessage());
+                totalsLabel.setText("Totals could not be loaded.");
+                return;
+            }
+            totalsLabel.setText(String.format("Total - Present: %d   Absent: %d   On Leave: %d",
+                    counts[0], counts[1], counts[2]));
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    private void initComponents() {
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBackground(COLOR_BACKGROUND_PANEL); // White
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        // Header: name, position and overall totals
+        JPanel headerPanel = new JPanel(new BorderLayout(0, 5));
+        headerPanel.setOpaque(false);
+        JLabel nameLabel = new JLabel(employee.getName() + " (" + employee.getPosition() + ")");
+        nameLabel.setFont(new Font("Inter", Font.BOLD, 18));
+        nameLabel.setForeground(COLOR_PRIMARY);
+        headerPanel.add(nameLabel, BorderLayout.NORTH);
+        totalsLabel.setFont(new Font("Inter", Font.PLAIN, 14));
+        totalsLabel.setForeground(COLOR_TEXT);
+        headerPanel.add(totalsLabel, BorderLayout.SOUTH);
+        panel.add(headerPanel, BorderLayout.NORTH);
+
+        // History table
+        JTable table = new JTable(model);
+        table.getTableHeader().setFont(new Font("Inter", Font.BOLD, 14));
+        table.getTableHeader().setBackground(COLOR_PRIMARY);
+        table.getTableHeader().setForeground(Color.WHITE);
+        table.setFont(new Font("Inter", Font.PLAIN, 14));
+        table.setRowHeight(30);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setFillsViewportHeight(true);
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(SwingConstants.CENTER);
+        table.setDefaultRenderer(Object.class, centerRenderer);
+
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setBorder(BorderFactory.createLineBorder(COLOR_ACCENT));
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        // Footer: how much of the history is loaded
+        loadedLabel.setFont(new Font("Inter", Font.PLAIN, 12));
+        loadedLabel.setForeground(COLOR_TEXT);
+        panel.add(loadedLabel, BorderLayout.SOUTH);
+
+        setContentPane(panel);
+    }
+
+    /**
+     * A table model that only ever grows at the end: rows are appended page by page
+     * as the table asks for rows near the end of what is loaded.
+     * Used on the EDT only.
+     */
+    private class HistoryTableModel extends AbstractTableModel {
+
+        private final String[] columnNames = {"Date", "Status", "Present", "Absent", "On Leave"};
+        private final List<AttendanceEntry> rows = new ArrayList<>();
+        // Running totals (present, absent, on leave) from the newest day down to each row
+        private final List<int[]> runningTotals = new ArrayList<>();
+        private final int[] totals = new int[AttendanceBitmapIndex.STATUSES.length];
+
+        private String cursor; // Where the next page starts (null = from the newest day)
+        private boolean hasMore = true;
+        private boolean loading;
+
+        /**
+         * Fetches the next page in the background, unless one is already on its way.
+         */
+        void loadMore() {
+            if (loading || !hasMore) {
+                return;
+            }
+            loading = true;
+            dbManager.getAttendanceHistory(employee.getId(), cursor, PAGE_SIZE).whenCompleteAsync((page, error) -> {
+                loading = false; // Also after a failure, so scrolling tries again
+                if (error != null) {
+                    System.err.println("Error loading attendance history: " + error.getMessage());
+                    loadedLabel.setText(rows.isEmpty()
+                            ? "The history could not be loaded. Close and reopen to try again."
+                            : rows.size() + " days loaded. The next days could not be loaded; scroll to try again.");
+                    return;
+                }
+                cursor = page.getNextCursor();
+                hasMore = page.hasMore();
+                append(page.getRows());
+            }, AsyncDatabaseManager.EDT);
+        }
+
+        private void append(List<AttendanceEntry> page) {
+            if (page.isEmpty()) {
+                updateLoadedLabel();
+                return;
+            }
+            int firstRow = rows.size();
+            for (AttendanceEntry entry : page) {
+                int status = Arrays.asList(AttendanceBitmapIndex.STATUSES).indexOf(entry.getStatus());
+                if (status >= 0) {
+                    totals[status]++;
+                }
+                rows.add(entry);
+                runningTotals.add(totals.clone());
+            }
+            fireTableRowsInserted(firstRow, rows.size() - 1);
+            updateLoadedLabel();
+        }
+
+        private void updateLoadedLabel() {
+            loadedLabel.setText(hasMore
+                    ? rows.size() + " days loaded (scroll down for more)"
+                    : (rows.isEmpty() ? "No attendance recorded yet" : "All " + rows.size() + " days loaded"));
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            if (rowIndex >= rows.size() - PREFETCH_ROWS) {
+                loadMore(); // Close to the end of what is loaded: fetch the next page
+            }
+            AttendanceEntry entry = rows.get(rowIndex);
+            switch (columnIndex) {
+                case 0: return entry.getDate();
+                case 1: return entry.getStatus();
+                default: return runningTotals.get(rowIndex)[columnIndex - 2];
+            }
+        }
+
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return false;
+        }
+    }
+}
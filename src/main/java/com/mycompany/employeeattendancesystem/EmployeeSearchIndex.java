@@ -0,0 +1,92 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index over employee names and emails, for type-ahead search.
+ *
+ * Every employee is stored under several lower-case search terms: the full name,
+ * each word of the name, and the email. The terms live in a sorted map, so all
+ * terms starting with a prefix are one contiguous range that is found with a
+ * single O(log n) lookup; only the first few matches are ever visited.
+ *
+ * Kept up to date by EmployeeDirectory (one add/remove per employee change,
+ * never a full rebuild). Lookups are lock-free and safe from any thread.
+ */
+public class EmployeeSearchIndex {
+
+    // Separates the term from the employee ID, so each key is unique.
+    // It sorts before every real character, so "ann" + SEP comes before "anna".
+    private static final char SEP = '\u0000';
+    private static final char MAX_CHAR = '\uffff';
+
+    private final ConcurrentSkipListMap<String, Employee> terms = new ConcurrentSkipListMap<>();
+
+    public void add(Employee emp) {
+        for (String term : termsOf(emp)) {
+            terms.put(term + SEP + emp.getId(), emp);
+        }
+    }
+
+    public void remove(Employee emp) {
+        for (String term : termsOf(emp)) {
+            terms.remove(term + SEP + emp.getId());
+        }
+    }
+
+    public void clear() {
+        terms.clear();
+    }
+
+    /**
+     * Returns up to "limit" employees whose name, a word of their name, or email
+     * starts with the given text (ignoring case). Matches are ordered by the
+     * matching term, so "ann" lists "Ann Lee" before "Anna Smith".
+     * A blank query returns an empty list.
+     */
+    public List<Employee> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Employee> matches = new ArrayList<>(Math.min(limit, 64));
+        Set<Integer> seen = new HashSet<>();
+        // MAX_CHAR sorts after every real character, so this is exactly the keys starting with "prefix"
+        for (Employee emp : terms.subMap(prefix, true, prefix + MAX_CHAR, false).values()) {
+            if (seen.add(emp.getId())) { // An employee can match several terms
+                matches.add(emp);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> termsOf(Employee emp) {
+        Set<String> result = new HashSet<>();
+        String name = normalize(emp.getName());
+        if (!name.isEmpty()) {
+            result.add(name);
+            for (String word : name.split("\\s+")) {
+                result.add(word);
+            }
+        }
+        String email = normalize(emp.getEmail());
+        if (!email.isEmpty()) {
+            result.add(email);
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
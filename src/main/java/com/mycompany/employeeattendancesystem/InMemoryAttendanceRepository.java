@@ -0,0 +1,750 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An AttendanceRepository that keeps everything in memory: no SQLite and no disk
+ * I/O (apart from the optional snapshot file). Meant for UI tests, benchmarks and
+ * simulating large organisations; MainApp uses it with -Dattendance.engine=memory.
+ *
+ * Storage:
+ *   employees    an EmployeeDirectory, as in DatabaseManager (ID order, prefix index)
+ *   attendance   an IntHashMap from employee ID to that employee's days: a sorted
+ *                long[] of epoch days with a parallel byte[] of statuses, so there
+ *                is no boxed key and no object per attendance record
+ *   headcounts   an AttendanceBitmapIndex, as in DatabaseManager
+ *
+ * Reads run in parallel; writes take one short exclusive lock, so a batch mark is
+ * seen by readers either completely or not at all. Changes are announced on the
+ * change bus once the lock is released, as DatabaseManager does after a commit.
+ *
+ * With a snapshot file, the data is loaded from it at startup and written back by
+ * saveSnapshot() and close(). A snapshot is written to a temporary file first and
+ * then moved over the old one, so a crash never leaves half a snapshot behind.
+ */
+public class InMemoryAttendanceRepository implements AttendanceRepository {
+
+    private static final String[] STATUSES = AttendanceBitmapIndex.STATUSES;
+
+    // Page cursor kinds (see Page), the same as DatabaseManager's
+    private static final String EMPLOYEE_CURSOR = "employee";
+    private static final String DAY_CURSOR = "day";
+
+    // Snapshot file header
+    private static final int SNAPSHOT_MAGIC = 0x41545344; // "ATSD"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // Guards everything below except the directory, the index and the bus (which are thread-safe)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final EmployeeDirectory directory = new EmployeeDirectory();
+    private final AttendanceBitmapIndex attendanceIndex = new AttendanceBitmapIndex();
+    private final IntHashMap<EmployeeDays> attendance = new IntHashMap<>();
+    private final Map<String, Integer> idByEmail = new HashMap<>();
+    private final Map<String, String> admins = new HashMap<>();
+    private int lastId; // Like AUTOINCREMENT: IDs of deleted employees are never reused
+
+    private final DataChangeBus changeBus = new DataChangeBus();
+
+    // Where close() saves the data (null = nothing is saved)
+    private Path snapshotFile;
+
+    /**
+     * An empty repository that is never saved, with the default admin user.
+     */
+    public InMemoryAttendanceRepository() {
+        this(null);
+    }
+
+    /**
+     * A repository loaded from 'snapshotFile' (if it exists) and saved back to it on close().
+     * If the file cannot be read, the repository starts empty and does not overwrite it.
+     */
+    public InMemoryAttendanceRepository(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            loadSnapshot(snapshotFile);
+        }
+        if (admins.isEmpty()) {
+            admins.put("admin", "admin123"); // Default password, as in DatabaseManager
+        }
+    }
+
+    @Override
+    public boolean validateAdmin(String username, String password) {
+        lock.readLock().lock();
+        try {
+            return password != null && password.equals(admins.get(username));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean addEmployee(String name, String position, String email) {
+        Employee added;
+        lock.writeLock().lock();
+        try {
+            DatabaseManager.checkEmployee(name, position, email); // The same checks as the database
+            if (idByEmail.containsKey(email)) {
+                System.err.println("Error adding employee: email already exists: " + email);
+                return false;
+            }
+            added = insert(name, position, email);
+        } catch (SQLException e) {
+            System.err.println("Error adding employee: " + e.getMessage());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changeBus.publish(DataChangeEvent.employeeAdded(added));
+        return true;
+    }
+
+    @Override
+    public int addEmployeesBatch(List<Employee> employees, List<String> duplicateEmails) {
+        List<DataChangeEvent> events = new ArrayList<>(employees.size());
+        // A row with a missing field fails the whole batch, as in DatabaseManager
+        try {
+            for (Employee emp : employees) {
+                DatabaseManager.checkEmployee(emp.getName(), emp.getPosition(), emp.getEmail());
+            }
+        } catch (SQLException e) {
+            System.err.println("Error adding employee batch: " + e.getMessage());
+            return -1;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Employee emp : employees) {
+                if (idByEmail.containsKey(emp.getEmail())) {
+                    duplicateEmails.add(emp.getEmail());
+                    continue;
+                }
+                events.add(DataChangeEvent.employeeAdded(insert(emp.getName(), emp.getPosition(), emp.getEmail())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changeBus.publishAll(events);
+        return events.size();
+    }
+
+    // Caller holds the write lock
+    private Employee insert(String name, String position, String email) {
+        Employee emp = new Employee(++lastId, name, position, email);
+        directory.put(emp);
+        attendanceIndex.addEmployee(emp.getId());
+        attendance.put(emp.getId(), new EmployeeDays());
+        idByEmail.put(email, emp.getId());
+        return emp;
+    }
+
+    @Override
+    public boolean deleteEmployee(int id) {
+        lock.writeLock().lock();
+        try {
+            Employee removed = directory.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            idByEmail.remove(removed.getEmail());
+            attendance.remove(id); // Their attendance goes with them
+            attendanceIndex.removeEmployee(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changeBus.publish(DataChangeEvent.employeeRemoved(id));
+        return true;
+    }
+
+    @Override
+    public Employee getEmployee(int id) {
+        return directory.get(id);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return directory.getAll();
+    }
+
+    @Override
+    public List<Employee> getAllEmployeesForAttendance() {
+        return directory.getAll();
+    }
+
+    @Override
+    public int countEmployees() {
+        return directory.size();
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String cursor, int limit) {
+        try {
+            int afterId = cursor == null ? 0 : (int) Page.decodeCursor(EMPLOYEE_CURSOR, cursor);
+            List<Employee> rows = directory.getPageAfter(afterId, limit);
+            return new Page<>(rows, nextEmployeeCursor(rows.size() == limit, rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getId()));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error fetching employees page: " + e.getMessage());
+            return Page.empty();
+        }
+    }
+
+    @Override
+    public String getEmployeeCursor(int offset) {
+        if (offset <= 0) {
+            return null;
+        }
+        int id = directory.getIdAt(offset - 1);
+        return Page.encodeCursor(EMPLOYEE_CURSOR, id >= 0 ? id : Integer.MAX_VALUE);
+    }
+
+    private static String nextEmployeeCursor(boolean fullPage, int lastId) {
+        return fullPage ? Page.encodeCursor(EMPLOYEE_CURSOR, lastId) : null;
+    }
+
+    @Override
+    public List<Employee> findEmployeesByPrefix(String query, int limit) {
+        return directory.search(query, limit);
+    }
+
+    /**
+     * Same rules and ranking as the SQLite full-text search (a name match counts
+     * more than an email match, and an email match more than a position match),
+     * computed by scanning the directory.
+     */
+    @Override
+    public List<Employee> searchEmployees(String query, int limit) {
+        List<String> words = new ArrayList<>();
+        for (String word : foldForSearch(query).trim().split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(" " + word); // Must match at the start of a word
+            }
+        }
+        List<Employee> matches = new ArrayList<>();
+        if (words.isEmpty()) {
+            return matches;
+        }
+
+        List<Employee> all = directory.getAll();
+        int[] scores = new int[all.size()];
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            Employee emp = all.get(i);
+            String name = foldForSearch(emp.getName());
+            String position = foldForSearch(emp.getPosition());
+            String email = foldForSearch(emp.getEmail());
+            int score = 0;
+            for (String word : words) {
+                int best = name.contains(word) ? 10 : email.contains(word) ? 5 : position.contains(word) ? 2 : 0;
+                if (best == 0) {
+                    score = 0; // Every word has to match
+                    break;
+                }
+                score += best;
+            }
+            if (score > 0) {
+                scores[i] = score;
+                found.add(i);
+            }
+        }
+
+        // Best first; equal scores stay in ID order (the sort is stable)
+        found.sort(Comparator.comparingInt(i -> -scores[i]));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            matches.add(all.get(found.get(i)));
+        }
+        return matches;
+    }
+
+    /**
+     * Lower case without accents, every run of punctuation turned into one space,
+     * with a leading space so " word" matches at the start of any word.
+     */
+    private static String foldForSearch(String text) {
+        if (text == null) {
+            return " ";
+        }
+        String plain = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return " " + plain.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ");
+    }
+
+    @Override
+    public boolean markAttendance(int employeeId, String date, String status) {
+        long epochDay;
+        try {
+            epochDay = DatabaseManager.checkMark(directory, employeeId, date, status); // The same checks as the database
+        } catch (SQLException e) {
+            System.err.println("Error marking attendance: " + e.getMessage());
+            return false;
+        }
+        int slot = slotOf(status);
+
+        lock.writeLock().lock();
+        try {
+            EmployeeDays days = attendance.get(employeeId);
+            if (days == null) { // Deleted since the check
+                System.err.println("Error marking attendance: No employee with ID " + employeeId);
+                return false;
+            }
+            days.put(epochDay, slot);
+            attendanceIndex.mark(employeeId, epochDay, status);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changeBus.publish(DataChangeEvent.attendanceMarked(employeeId, date, status));
+        return true;
+    }
+
+    @Override
+    public boolean markAttendanceBatch(List<AttendanceEntry> entries) {
+        // Check everything first, so the batch is all or nothing
+        long[] epochDays = new long[entries.size()];
+        int[] slots = new int[entries.size()];
+        String lastDate = null;
+        for (int i = 0; i < entries.size(); i++) {
+            AttendanceEntry entry = entries.get(i);
+            try {
+                // A batch is usually one day for many employees: parse each date once
+                boolean sameDate = i > 0 && entry.getDate() != null && entry.getDate().equals(lastDate);
+                epochDays[i] = sameDate ? epochDays[i - 1] : DatabaseManager.toEpochDay(entry.getDate());
+                lastDate = entry.getDate();
+                // The same checks as the database
+                DatabaseManager.checkStatusAndEmployee(directory, entry.getEmployeeId(), entry.getStatus());
+            } catch (SQLException e) {
+                System.err.println("Error marking attendance batch: " + e.getMessage());
+                return false;
+            }
+            slots[i] = slotOf(entry.getStatus());
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (AttendanceEntry entry : entries) {
+                if (!attendance.containsKey(entry.getEmployeeId())) { // Deleted since the check
+                    System.err.println("Error marking attendance batch: No employee with ID " + entry.getEmployeeId());
+                    return false;
+                }
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                AttendanceEntry entry = entries.get(i);
+                attendance.get(entry.getEmployeeId()).put(epochDays[i], slots[i]);
+                attendanceIndex.mark(entry.getEmployeeId(), epochDays[i], entry.getStatus());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<DataChangeEvent> events = new ArrayList<>(entries.size());
+        for (AttendanceEntry entry : entries) {
+            events.add(DataChangeEvent.attendanceMarked(entry.getEmployeeId(), entry.getDate(), entry.getStatus()));
+        }
+        changeBus.publishAll(events);
+        return true;
+    }
+
+    @Override
+    public List<ReportRow> getAttendanceReport(String date) {
+        try {
+            return toReportRows(directory.getAll(), DatabaseManager.toEpochDay(date));
+        } catch (SQLException e) {
+            System.err.println("Error fetching attendance report: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public Page<ReportRow> getAttendanceReportPage(String date, String cursor, int limit) {
+        try {
+            long epochDay = DatabaseManager.toEpochDay(date);
+            int afterId = cursor == null ? 0 : (int) Page.decodeCursor(EMPLOYEE_CURSOR, cursor);
+            List<ReportRow> rows = toReportRows(directory.getPageAfter(afterId, limit), epochDay);
+            int lastId = rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getEmployeeId();
+            return new Page<>(rows, nextEmployeeCursor(rows.size() == limit, lastId));
+        } catch (SQLException | IllegalArgumentException e) {
+            System.err.println("Error fetching attendance report page: " + e.getMessage());
+            return Page.empty();
+        }
+    }
+
+    private List<ReportRow> toReportRows(List<Employee> employees, long epochDay) {
+        List<ReportRow> rows = new ArrayList<>(employees.size());
+        lock.readLock().lock();
+        try {
+            for (Employee emp : employees) {
+                rows.add(new ReportRow(emp.getId(), emp.getName(), statusOf(emp.getId(), epochDay)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rows;
+    }
+
+    // Caller holds the read lock
+    private String statusOf(int employeeId, long epochDay) {
+        EmployeeDays days = attendance.get(employeeId);
+        int slot = days == null ? -1 : days.get(epochDay);
+        return slot < 0 ? "Not Marked" : STATUSES[slot];
+    }
+
+    @Override
+    public Page<AttendanceEntry> getAttendanceHistory(int employeeId, String cursor, int limit) {
+        List<AttendanceEntry> rows = new ArrayList<>(limit);
+        long lastDay = 0;
+        try {
+            long before = cursor == null ? Long.MAX_VALUE : Page.decodeCursor(DAY_CURSOR, cursor);
+            lock.readLock().lock();
+            try {
+                EmployeeDays days = attendance.get(employeeId);
+                // Walk back from the last day before the cursor
+                for (int i = days == null ? -1 : days.lowerBound(before) - 1; i >= 0 && rows.size() < limit; i--) {
+                    lastDay = days.days[i];
+                    rows.add(new AttendanceEntry(employeeId, DatabaseManager.fromEpochDay(lastDay), STATUSES[days.statuses[i]]));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error fetching attendance history: " + e.getMessage());
+            return Page.empty();
+        }
+        return new Page<>(rows, rows.size() == limit ? Page.encodeCursor(DAY_CURSOR, lastDay) : null);
+    }
+
+    @Override
+    public int[] getEmployeeStatusCounts(int employeeId) {
+        lock.readLock().lock();
+        try {
+            EmployeeDays days = attendance.get(employeeId);
+            return days == null ? new int[STATUSES.length] : days.counts.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] getDailyStatusCounts(String date) {
+        try {
+            return attendanceIndex.countAll(DatabaseManager.toEpochDay(date));
+        } catch (SQLException e) {
+            System.err.println("Error counting attendance: " + e.getMessage());
+            return new int[STATUSES.length];
+        }
+    }
+
+    @Override
+    public List<DailySummary> getDailySummary(String fromDate, String toDate) {
+        List<DailySummary> summaries = new ArrayList<>();
+        try {
+            long from = DatabaseManager.toEpochDay(fromDate);
+            long to = DatabaseManager.toEpochDay(toDate);
+            DatabaseManager.checkSummaryRange(from, to);
+            int headcount = directory.size();
+            for (long day = from; day <= to; day++) {
+                int[] counts = attendanceIndex.countAll(day);
+                int notMarked = Math.max(0, headcount - counts[0] - counts[1] - counts[2]);
+                summaries.add(new DailySummary(DatabaseManager.fromEpochDay(day), counts[0], counts[1], counts[2], notMarked));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error fetching daily summary: " + e.getMessage());
+        }
+        return summaries;
+    }
+
+    /**
+     * Each employee's days are sorted, so the range is found with two binary
+     * searches and only the days inside it are counted.
+     */
+    @Override
+    public List<AttendanceSummary> getAttendanceSummary(String fromDate, String toDate) {
+        List<AttendanceSummary> summaries = new ArrayList<>();
+        try {
+            long from = DatabaseManager.toEpochDay(fromDate);
+            long to = DatabaseManager.toEpochDay(toDate);
+            DatabaseManager.checkSummaryRange(from, to);
+            if (to < from) {
+                return summaries;
+            }
+            lock.readLock().lock();
+            try {
+                for (Employee emp : directory.getAll()) {
+                    int[] counts = new int[STATUSES.length];
+                    EmployeeDays days = attendance.get(emp.getId());
+                    if (days != null) {
+                        for (int i = days.lowerBound(from), end = days.lowerBound(to + 1); i < end; i++) {
+                            counts[days.statuses[i]]++;
+                        }
+                    }
+                    summaries.add(new AttendanceSummary(emp.getId(), emp.getName(), counts[0], counts[1], counts[2]));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error building attendance summary: " + e.getMessage());
+        }
+        return summaries;
+    }
+
+    /**
+     * Rows are collected one day at a time under the read lock and written to the
+     * file outside it, so a long export never holds up attendance marking.
+     */
+    @Override
+    public long exportAttendance(String fromDate, String toDate, AttendanceExportWriter out, AtomicBoolean cancelled) {
+        long rows = 0;
+        try {
+            long from = DatabaseManager.toEpochDay(fromDate);
+            long to = DatabaseManager.toEpochDay(toDate);
+            for (long day = from; day <= to && !cancelled.get(); day++) {
+                int[] counts = attendanceIndex.countAll(day);
+                if (counts[0] + counts[1] + counts[2] == 0) {
+                    continue; // Nobody marked that day
+                }
+                String date = DatabaseManager.fromEpochDay(day);
+                for (ReportRow row : toReportRows(directory.getAll(), day)) {
+                    if (cancelled.get()) {
+                        break;
+                    }
+                    if (!"Not Marked".equals(row.getStatus())) { // Recorded marks only, like SQLite
+                        out.writeRow(date, row.getEmployeeName(), row.getStatus());
+                        rows++;
+                    }
+                }
+            }
+            return rows;
+        } catch (SQLException | IOException e) {
+            System.err.println("Error exporting attendance: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public DataChangeBus getChangeBus() {
+        return changeBus;
+    }
+
+    /**
+     * The in-memory employee directory owned by this repository.
+     */
+    public EmployeeDirectory getEmployeeDirectory() {
+        return directory;
+    }
+
+    /**
+     * Saves the data to the snapshot file, if there is one.
+     */
+    @Override
+    public void close() {
+        if (snapshotFile != null) {
+            saveSnapshot(snapshotFile);
+        }
+    }
+
+    // SNAPSHOTS
+
+    /**
+     * Writes everything (admins, employees and their attendance) to 'file'.
+     * Writes wait while the snapshot is taken; reads carry on.
+     */
+    public boolean saveSnapshot(Path file) {
+        Path tmp = null;
+        lock.readLock().lock();
+        try {
+            Path folder = file.toAbsolutePath().getParent();
+            tmp = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(lastId);
+
+                out.writeInt(admins.size());
+                for (Map.Entry<String, String> admin : admins.entrySet()) {
+                    out.writeUTF(admin.getKey());
+                    out.writeUTF(admin.getValue());
+                }
+
+                List<Employee> employees = directory.getAll();
+                out.writeInt(employees.size());
+                for (Employee emp : employees) {
+                    out.writeInt(emp.getId());
+                    writeString(out, emp.getName());
+                    writeString(out, emp.getPosition());
+                    writeString(out, emp.getEmail());
+                    attendance.get(emp.getId()).write(out);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error saving snapshot " + file + ": " + e.getMessage());
+            try {
+                if (tmp != null) {
+                    Files.deleteIfExists(tmp);
+                }
+            } catch (IOException ignored) {
+                // Nothing more to do
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void loadSnapshot(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("not an attendance snapshot (or from a newer version)");
+            }
+            lastId = in.readInt();
+
+            int adminCount = in.readInt();
+            for (int i = 0; i < adminCount; i++) {
+                admins.put(in.readUTF(), in.readUTF());
+            }
+
+            int employeeCount = in.readInt();
+            List<Employee> employees = new ArrayList<>(employeeCount);
+            for (int i = 0; i < employeeCount; i++) {
+                Employee emp = new Employee(in.readInt(), readString(in), readString(in), readString(in));
+                employees.add(emp);
+                idByEmail.put(emp.getEmail(), emp.getId());
+                attendance.put(emp.getId(), EmployeeDays.read(in));
+            }
+
+            // Employees were saved in ID order, so the bitmap ordinals come out dense as usual
+            directory.loadAll(employees);
+            for (Employee emp : employees) {
+                attendanceIndex.addEmployee(emp.getId());
+                EmployeeDays days = attendance.get(emp.getId());
+                for (int i = 0; i < days.size; i++) {
+                    attendanceIndex.mark(emp.getId(), days.days[i], STATUSES[days.statuses[i]]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading snapshot " + file + ": " + e
+                    + " (starting empty; the file will not be overwritten)");
+            directory.loadAll(new ArrayList<>());
+            attendanceIndex.clear();
+            attendance.clear();
+            idByEmail.clear();
+            admins.clear();
+            lastId = 0;
+            snapshotFile = null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static int slotOf(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * One employee's attendance: epoch days in ascending order, each with its
+     * status slot (an index into STATUSES), plus running totals per status.
+     * Marks are nearly always for today, which appends at the end in O(1).
+     */
+    private static class EmployeeDays {
+
+        long[] days = new long[0];
+        byte[] statuses = new byte[0];
+        int size;
+        final int[] counts = new int[STATUSES.length];
+
+        /**
+         * The status slot for a day, or -1 if it is not marked.
+         */
+        int get(long day) {
+            int index = Arrays.binarySearch(days, 0, size, day);
+            return index >= 0 ? statuses[index] : -1;
+        }
+
+        /**
+         * Index of the first day on or after 'day' (size if there is none).
+         */
+        int lowerBound(long day) {
+            int index = Arrays.binarySearch(days, 0, size, day);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        void put(long day, int slot) {
+            // A day after the last one is appended without searching
+            int index = size == 0 || day > days[size - 1] ? -size - 1 : Arrays.binarySearch(days, 0, size, day);
+            if (index >= 0) {
+                counts[statuses[index]]--; // Replaces the earlier status
+            } else {
+                index = -index - 1;
+                if (size == days.length) {
+                    int capacity = Math.max(8, size * 2);
+                    days = Arrays.copyOf(days, capacity);
+                    statuses = Arrays.copyOf(statuses, capacity);
+                }
+                System.arraycopy(days, index, days, index + 1, size - index);
+                System.arraycopy(statuses, index, statuses, index + 1, size - index);
+                days[index] = day;
+                size++;
+            }
+            statuses[index] = (byte) slot;
+            counts[slot]++;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(days[i]);
+                out.writeByte(statuses[i]);
+            }
+        }
+
+        static EmployeeDays read(DataInputStream in) throws IOException {
+            EmployeeDays result = new EmployeeDays();
+            int size = in.readInt();
+            result.days = new long[size];
+            result.statuses = new byte[size];
+            for (int i = 0; i < size; i++) {
+                result.days[i] = in.readLong();
+                result.statuses[i] = in.readByte();
+                if (i > 0 && result.days[i] <= result.days[i - 1]) {
+                    throw new IOException("days out of order");
+                }
+                result.counts[result.statuses[i]]++;
+            }
+            result.size = size;
+            return result;
+        }
+    }
+}
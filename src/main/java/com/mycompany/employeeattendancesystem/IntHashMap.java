@@ -0,0 +1,172 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from int keys to objects, without boxing the keys.
+ *
+ * Keys and values live in two parallel arrays (open addressing with linear
+ * probing), so a lookup is a multiply, a mask and usually one array read; there
+ * is no Integer or Map.Entry object per entry. Removal shifts the following
+ * entries back instead of leaving tombstones, so lookups stay short however many
+ * keys come and go.
+ *
+ * Not thread-safe: the owner guards it with its own lock (see InMemoryAttendanceRepository).
+ */
+public class IntHashMap<V> {
+
+    /**
+     * Receives the entries of forEach().
+     */
+    public interface EntryVisitor<V> {
+
+        void visit(int key, V value);
+    }
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values; // null = free slot
+    private int size;
+
+    public IntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * 'expectedSize' entries fit without resizing.
+     */
+    public IntHashMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores a (non-null) value and returns the previous one, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("IntHashMap does not store null values");
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length * 3 / 4) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key and returns its value, or null if it was not there.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V removed = (V) values[slot];
+                shiftBack(slot, mask);
+                size--;
+                return removed;
+            }
+        }
+        return null;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Visits every entry, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryVisitor<V> visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != null) {
+                visitor.visit(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Fills the hole at 'free' with later entries of the same probe run,
+     * so no lookup ever stops early at it.
+     */
+    private void shiftBack(int free, int mask) {
+        for (int slot = (free + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            int home = slotOf(keys[slot], mask);
+            // Move the entry if its home slot is not between the hole and where it sits now
+            boolean movable = free <= slot ? (home <= free || home > slot) : (home <= free && home > slot);
+            if (movable) {
+                keys[free] = keys[slot];
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+        values[free] = null;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slotOf(int key, int mask) {
+        // Fibonacci hashing spreads sequential IDs over the whole table
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
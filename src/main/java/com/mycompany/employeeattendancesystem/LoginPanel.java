@@ -28,7 +28,7 @@ import javax.swing.JOptionPane;
  */
 public class LoginPanel extends JPanel {
 
-    private DatabaseManager dbManager;
+    private AsyncDatabaseManager dbManager;
     private Runnable onLoginSuccess; // A "callback" to tell MainApp to switch cards
 
     private JTextField usernameField;
@@ -36,7 +36,7 @@ public class LoginPanel extends JPanel {
     private JButton loginButton;
     private JLabel errorLabel;
 
-    public LoginPanel(DatabaseManager dbManager, Runnable onLoginSuccess) {
+    public LoginPanel(AsyncDatabaseManager dbManager, Runnable onLoginSuccess) {
         this.dbManager = dbManager;
         this.onLoginSuccess = onLoginSuccess;
 
@@ -159,17 +159,25 @@ public class LoginPanel extends JPanel {
         
         
         // The method in DatabaseManager is "validateAdmin", not "validateAdminLogin".
-        if (dbManager.validateAdmin(user, pass)) {
-            // Login successful!
-            errorLabel.setText(" "); // Clear error
-            
-            // Call the 'onLoginSuccess' function that was passed in from MainApp
-            onLoginSuccess.run();
-            
-        } else {
-            // Login failed
-            errorLabel.setText("Invalid username or password.");
-        }
+        // It runs in the background so the window stays responsive.
+        loginButton.setEnabled(false);
+        dbManager.validateAdmin(user, pass).whenCompleteAsync((valid, error) -> {
+            loginButton.setEnabled(true); // Also after a failure, so the user can try again
+            if (error != null) {
+                // The database could not be reached (e.g. it failed to open)
+                System.err.println("Error validating admin: " + error.getMessage());
+                errorLabel.setText("Could not check the login. Please try again.");
+            } else if (valid) {
+                // Login successful!
+                errorLabel.setText(" "); // Clear error
+                
+                // Call the 'onLoginSuccess' function that was passed in from MainApp
+                onLoginSuccess.run();
+                
+            } else {
+                // Login failed
+                errorLabel.setText("Invalid username or password.");
+            }
+        }, AsyncDatabaseManager.EDT);
     }
 }
-
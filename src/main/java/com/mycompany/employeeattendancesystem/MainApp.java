@@ -4,7 +4,18 @@ import com.formdev.flatlaf.FlatLightLaf;
 import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.swing.JFrame;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
@@ -31,9 +42,36 @@ public class MainApp {
     private CardLayout cardLayout;
     private LoginPanel loginPanel;
     private DashboardPanel dashboardPanel;
-    private DatabaseManager dbManager;
+    private AsyncDatabaseManager asyncDbManager;
+
+    // System.nanoTime() when main() started, the start of the time-to-first-frame metric
+    private static long launchNanos;
+
+    private static final int DEFAULT_SERVER_PORT = 8080;
+    private static final String SERVER_USAGE = "Usage: --server [port]   (port 1-65535, default " + DEFAULT_SERVER_PORT + ")\n"
+            + "  -Dattendance.server.token=<secret>  token kiosks send in the " + AttendanceHttpServer.TOKEN_HEADER
+            + " header (generated if not set)\n"
+            + "  -Dattendance.server.bind=<address>  address to listen on (default 127.0.0.1; 0.0.0.0 = every interface)";
 
     public static void main(String[] args) {
+        launchNanos = System.nanoTime();
+        // Headless mode for badge kiosks: "--server [port]" starts the HTTP API instead of the window
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? parsePort(args[1]) : DEFAULT_SERVER_PORT;
+            if (port < 0) {
+                System.err.println("Invalid port: " + args[1]);
+                System.err.println(SERVER_USAGE);
+                System.exit(2);
+            }
+            runServer(port);
+            return;
+        }
+        // Maintenance: "--verify-summary" checks the daily_summary table, "--rebuild-summary" recomputes it
+        if (args.length > 0 && (args[0].equals("--verify-summary") || args[0].equals("--rebuild-summary"))) {
+            System.exit(runSummaryCommand(args[0].equals("--rebuild-summary")));
+            return;
+        }
+
         // Set up the modern FlatLaf Look and Feel
         try {
             UIManager.setLookAndFeel(new FlatLightLaf());
@@ -56,7 +94,8 @@ public class MainApp {
     }
 
     private void createAndShowGUI() {
-        // 1. Initialize Database
+        // 1. Start opening the database in the background
+        //    (the login window does not wait for it)
         initDatabase();
 
         // 2. Create Main Frame
@@ -70,7 +109,7 @@ public class MainApp {
         mainPanel = new JPanel(cardLayout);
 
         // 4. Create Panels (the "cards")
-        loginPanel = new LoginPanel(dbManager, this::showDashboard);
+        loginPanel = new LoginPanel(asyncDbManager, this::showDashboard);
         // Note: DashboardPanel is created *after* login, see showDashboard()
 
         // 5. Add panels to the CardLayout
@@ -81,11 +120,171 @@ public class MainApp {
         frame.add(mainPanel);
         frame.pack();
         frame.setVisible(true);
+
+        // Runs after the frame's first paint, which is queued ahead of this
+        SwingUtilities.invokeLater(() -> {
+            Metrics.operation("startup.timeToFirstFrame").record(launchNanos, 0);
+            Metrics.log(String.format("Time to first frame: %.0f ms after main() (%d ms since JVM start)",
+                    (System.nanoTime() - launchNanos) / 1e6, ManagementFactory.getRuntimeMXBean().getUptime()));
+        });
+    }
+
+    /**
+     * Runs the headless HTTP server until the process is stopped.
+     */
+    private static void runServer(int port) {
+        // Loopback only unless another address is asked for explicitly
+        String bindAddress = System.getProperty("attendance.server.bind", "127.0.0.1");
+        String token = System.getProperty("attendance.server.token");
+        if (token == null || token.isEmpty()) {
+            token = generateServerToken();
+            System.out.println("No -Dattendance.server.token given; kiosks must send this token: " + token);
+        }
+
+        AttendanceRepository db = openRepository();
+        try {
+            AttendanceHttpServer server = new AttendanceHttpServer(db, bindAddress, port, token);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                db.close();
+            }, "server-shutdown"));
+            server.start();
+        } catch (IOException e) {
+            System.err.println("Failed to start server on " + bindAddress + ":" + port + ": " + e.getMessage());
+            db.close();
+        }
+    }
+
+    /**
+     * The port number in 'arg', or -1 if it is not a valid port.
+     */
+    private static int parsePort(String arg) {
+        try {
+            int port = Integer.parseInt(arg);
+            return port >= 1 && port <= 65535 ? port : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A random 128-bit token for this run of the server.
+     */
+    private static String generateServerToken() {
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
     }
 
+    /**
+     * Verifies (and optionally rebuilds) the daily_summary table.
+     * Returns the process exit code: 0 = consistent, 1 = mismatches left, 2 = error.
+     */
+    private static int runSummaryCommand(boolean rebuild) {
+        DatabaseManager db = openDatabase();
+        try {
+            if (rebuild) {
+                if (!db.rebuildDailySummary()) {
+                    return 2;
+                }
+                System.out.println("Daily summary rebuilt");
+            }
+            List<String> mismatches = db.verifyDailySummary();
+            if (mismatches == null) {
+                return 2;
+            }
+            if (mismatches.isEmpty()) {
+                System.out.println("Daily summary is consistent with the attendance table");
+                return 0;
+            }
+            System.out.println("Daily summary differs from the attendance table on " + mismatches.size()
+                    + " day(s): " + mismatches + " (run with --rebuild-summary to fix)");
+            return 1;
+        } finally {
+            db.close();
+        }
+    }
+
+    /**
+     * Opens the storage engine chosen with -Dattendance.engine:
+     *   sqlite (default)  attendance.db, see openDatabase()
+     *   memory            everything in memory (InMemoryAttendanceRepository), for UI tests,
+     *                     demos and load simulations; -Dattendance.snapshotFile=path loads
+     *                     the data from that file at startup and saves it there on exit
+     * Shared by the desktop app and the headless server.
+     */
+    private static AttendanceRepository openRepository() {
+        if ("memory".equalsIgnoreCase(System.getProperty("attendance.engine", "sqlite"))) {
+            String snapshot = System.getProperty("attendance.snapshotFile");
+            Metrics.startLogging(Long.getLong("attendance.metricsLogSeconds", 0L));
+            return new InMemoryAttendanceRepository(snapshot == null ? null : Paths.get(snapshot));
+        }
+        return openDatabase();
+    }
+
+    /**
+     * Opens the SQLite database with the options given as system properties.
+     */
+    private static DatabaseManager openDatabase() {
+        // -Dattendance.storageMode=WAL lets reports run while attendance is being written
+        StorageMode storageMode = StorageMode.valueOf(
+                System.getProperty("attendance.storageMode", StorageMode.ROLLBACK_JOURNAL.name()));
+        DatabaseManager db = new DatabaseManager(storageMode);
+
+        // Optional: -Dattendance.writeBehind=true queues attendance marks and
+        // commits them in groups (useful when many supervisors mark at once)
+        if (Boolean.getBoolean("attendance.writeBehind")) {
+            db.enableWriteBehind(
+                    Integer.getInteger("attendance.writeBehind.batchSize", 500),
+                    Long.getLong("attendance.writeBehind.maxLatencyMillis", 50L));
+        }
+
+        // Optional: -Dattendance.metricsLogSeconds=60 prints call counts and latencies
+        // every minute (they are always available over JMX as well)
+        Metrics.startLogging(Long.getLong("attendance.metricsLogSeconds", 0L));
+        return db;
+    }
+
+    /**
+     * Opens the database (schema check, migrations, employee directory) on a
+     * background thread. The UI only talks to the async facade, so no JDBC runs
+     * on the EDT; calls made before the database is open just wait for it.
+     */
     private void initDatabase() {
-        dbManager = new DatabaseManager();
-        
+        CompletableFuture<AttendanceRepository> ready = CompletableFuture.supplyAsync(
+                MainApp::openRepository, task -> Thread.ofVirtual().name("db-init").start(task));
+        asyncDbManager = new AsyncDatabaseManager(ready);
+
+        ready.whenCompleteAsync((db, error) -> {
+            if (error != null) {
+                System.err.println("Failed to open database: " + error.getMessage());
+                JOptionPane.showMessageDialog(frame, "Could not open the database:\n" + error.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                System.exit(1);
+            }
+        }, AsyncDatabaseManager.EDT);
+
+        // Return all pooled connections cleanly when the JVM exits
+        // (window closed, Ctrl+C, etc.). If the database is still opening, wait for it:
+        // close() is what commits queued write-behind marks and checkpoints the WAL
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            asyncDbManager.close();
+            try {
+                AttendanceRepository db;
+                try {
+                    db = ready.get(5, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                    System.err.println("Database is still opening; waiting for it so it can be closed cleanly");
+                    db = ready.get();
+                }
+                db.close();
+            } catch (ExecutionException e) {
+                // Never opened, nothing to close
+            } catch (InterruptedException e) {
+                System.err.println("Interrupted while waiting for the database to open; it was not closed");
+                Thread.currentThread().interrupt();
+            }
+        }, "db-shutdown"));
     }
 
     /**
@@ -93,14 +292,21 @@ public class MainApp {
      * When login is successful, LoginPanel calls this method.
      */
     public void showDashboard() {
+        long start = System.nanoTime();
         // Create the dashboard panel *only when needed*
-        dashboardPanel = new DashboardPanel(dbManager);
+        dashboardPanel = new DashboardPanel(asyncDbManager);
         
         // Add it to the main panel
         mainPanel.add(dashboardPanel, "dashboard");
         
         // Switch to the dashboard card
         cardLayout.show(mainPanel, "dashboard");
+
+        // Time from a successful login until the first tab shows its data
+        dashboardPanel.whenFirstTabLoaded().thenRun(() -> {
+            Metrics.log(String.format("Time to dashboard: %.0f ms (after login)", (System.nanoTime() - start) / 1e6));
+            Metrics.operation("startup.timeToDashboard").record(start, 0);
+        });
     }
 }
 
@@ -0,0 +1,186 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of performance metrics.
+ *
+ * Every timed operation (DatabaseManager methods, dashboard refreshes), every
+ * connection pool, the database writer and the write-behind journal are registered as MBeans, so it can be watched live in JConsole
+ * or VisualVM under the "com.mycompany.employeeattendancesystem" domain.
+ * Optionally (-Dattendance.metricsLogSeconds=60) all of it is also printed to
+ * System.err at a fixed interval, together with the one-off timings and shutdown
+ * statistics sent to log(). Without that property the console stays quiet.
+ */
+public final class Metrics {
+
+    private static final String DOMAIN = "com.mycompany.employeeattendancesystem";
+
+    // Sorted by name, so the log dump is in a stable order
+    private static final Map<String, OperationMetrics> operations = new ConcurrentSkipListMap<>();
+    private static final Map<String, ConnectionPool> pools = new ConcurrentSkipListMap<>();
+    private static volatile DatabaseWriter writer;
+    private static volatile AttendanceWriteBehind writeBehind;
+
+    private static ScheduledExecutorService logger;
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the metrics for an operation, creating and registering them on first use.
+     * Meant to be called once and kept in a static field.
+     */
+    public static OperationMetrics operation(String name) {
+        return operations.computeIfAbsent(name, key -> {
+            OperationMetrics metrics = new OperationMetrics(key);
+            register("type=Operation,name=" + key, metrics);
+            return metrics;
+        });
+    }
+
+    /**
+     * Publishes a connection pool under the given name ("write", "read", ...).
+     * A pool registered earlier under the same name is replaced.
+     */
+    public static void registerPool(String name, ConnectionPool pool) {
+        pools.put(name, pool);
+        register("type=ConnectionPool,name=" + name, pool);
+    }
+
+    /**
+     * Removes a pool, unless a newer pool has been registered under its name since.
+     */
+    public static void unregisterPool(String name, ConnectionPool pool) {
+        if (pools.remove(name, pool)) {
+            unregister("type=ConnectionPool,name=" + name);
+        }
+    }
+
+    /**
+     * Publishes the database writer (its queue and lock contention statistics).
+     */
+    public static void registerWriter(DatabaseWriter databaseWriter) {
+        writer = databaseWriter;
+        register("type=DatabaseWriter,name=writer", databaseWriter);
+    }
+
+    /**
+     * Removes the writer, unless a newer one has been registered since.
+     */
+    public static synchronized void unregisterWriter(DatabaseWriter databaseWriter) {
+        if (writer == databaseWriter) {
+            writer = null;
+            unregister("type=DatabaseWriter,name=writer");
+        }
+    }
+
+    /**
+     * Publishes the write-behind journal (its queue depth and commit latency).
+     */
+    public static void registerWriteBehind(AttendanceWriteBehind journal) {
+        writeBehind = journal;
+        register("type=AttendanceWriteBehind,name=journal", journal);
+    }
+
+    /**
+     * Removes the journal, unless a newer one has been registered since.
+     */
+    public static synchronized void unregisterWriteBehind(AttendanceWriteBehind journal) {
+        if (writeBehind == journal) {
+            writeBehind = null;
+            unregister("type=AttendanceWriteBehind,name=journal");
+        }
+    }
+
+    private static void register(String keys, Object mbean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(DOMAIN + ":" + keys);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(mbean, objectName);
+        } catch (JMException e) {
+            // Metrics must never break the application
+            System.err.println("Could not register MBean " + keys + ": " + e.getMessage());
+        }
+    }
+
+    private static void unregister(String keys) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(DOMAIN + ":" + keys);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            System.err.println("Could not unregister MBean " + keys + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * All metrics as text, one line per operation that has been called,
+     * one line per connection pool, one for the database writer and one for the
+     * write-behind journal (if enabled).
+     */
+    public static String dump() {
+        StringBuilder sb = new StringBuilder("=== Attendance metrics ===");
+        for (OperationMetrics metrics : operations.values()) {
+            if (metrics.getCallCount() > 0) {
+                sb.append(System.lineSeparator()).append(metrics);
+            }
+        }
+        pools.forEach((name, pool) -> sb.append(System.lineSeparator())
+                .append('[').append(name).append("] ").append(pool.getAcquireStats()));
+        DatabaseWriter currentWriter = writer;
+        if (currentWriter != null) {
+            sb.append(System.lineSeparator()).append(currentWriter.getStats());
+        }
+        AttendanceWriteBehind currentJournal = writeBehind;
+        if (currentJournal != null) {
+            sb.append(System.lineSeparator()).append(currentJournal.getStats());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints dump() to System.err every 'intervalSeconds' (on a daemon thread).
+     */
+    public static synchronized void startLogging(long intervalSeconds) {
+        if (logger != null || intervalSeconds <= 0) {
+            return;
+        }
+        logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> System.err.println(dump()), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Prints a diagnostic line (a startup timing, shutdown statistics) to System.err,
+     * but only when metrics logging is turned on with -Dattendance.metricsLogSeconds.
+     */
+    public static void log(String message) {
+        if (Long.getLong("attendance.metricsLogSeconds", 0L) > 0) {
+            System.err.println(message);
+        }
+    }
+
+    public static synchronized void stopLogging() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+}
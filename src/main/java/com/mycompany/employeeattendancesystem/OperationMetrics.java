@@ -0,0 +1,188 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, error count, rows returned and a latency histogram for one operation
+ * (e.g. "getAttendanceReportPage"). Created and registered with JMX by Metrics.
+ *
+ * Recording is cheap enough to leave on all the time: the caller takes one
+ * System.nanoTime() before the work, and record() adds to a few LongAdders
+ * (no locks, no allocation). Latencies go into power-of-two buckets
+ * (1 us, 2 us, 4 us, ...), so percentiles are accurate to within a factor of two.
+ *
+ * Usage:
+ *   long start = System.nanoTime();
+ *   ... do the work ...
+ *   metrics.record(start, rows);   // or metrics.recordError(start) on failure
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+    // Bucket i holds latencies below 2^i microseconds; the last bucket holds everything longer
+    private static final int BUCKETS = 32;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    OperationMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a successful call that started at 'startNanos' (from System.nanoTime())
+     * and returned 'rowCount' rows (0 for writes that return nothing).
+     */
+    public void record(long startNanos, long rowCount) {
+        recordLatency(System.nanoTime() - startNanos);
+        rows.add(rowCount);
+    }
+
+    /**
+     * Records a failed call. It still counts as a call and its time is still recorded.
+     */
+    public void recordError(long startNanos) {
+        recordLatency(System.nanoTime() - startNanos);
+        errors.increment();
+    }
+
+    private void recordLatency(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        buckets[bucketOf(nanos)].increment();
+        // Only pay for a CAS when this really is a new maximum
+        if (nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = nanos / 1000;
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rows.sum();
+    }
+
+    @Override
+    public double getAverageMillis() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1e6 / count;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return percentileMillis(0.50);
+    }
+
+    @Override
+    public double getP95Millis() {
+        return percentileMillis(0.95);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return percentileMillis(0.99);
+    }
+
+    /**
+     * The upper bound of the bucket holding the given percentile (capped at the max seen).
+     */
+    private double percentileMillis(double p) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(bucketLimitMillis(i), getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static double bucketLimitMillis(int bucket) {
+        return (1L << bucket) / 1000.0;
+    }
+
+    @Override
+    public String getHistogram() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = buckets[i].sum();
+            if (count > 0) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(i == BUCKETS - 1 ? ">" : "<").append(formatMillis(bucketLimitMillis(i == BUCKETS - 1 ? i - 1 : i)))
+                        .append(": ").append(count);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String formatMillis(double millis) {
+        return millis < 10 ? String.format("%.3fms", millis) : String.format("%.0fms", millis);
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        rows.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * One line for the periodic log dump.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: calls=%d errors=%d rows=%d avg=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                name, getCallCount(), getErrorCount(), getRowCount(), getAverageMillis(),
+                getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+    }
+}
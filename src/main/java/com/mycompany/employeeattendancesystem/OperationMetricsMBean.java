@@ -0,0 +1,35 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * JMX view of one timed operation (see OperationMetrics).
+ * Shown in JConsole / VisualVM under "com.mycompany.employeeattendancesystem".
+ */
+public interface OperationMetricsMBean {
+
+    String getName();
+
+    long getCallCount();
+
+    long getErrorCount();
+
+    long getRowCount();
+
+    double getAverageMillis();
+
+    double getMaxMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    /**
+     * Latency histogram as text, one entry per non-empty power-of-two bucket, by
+     * upper bound: e.g. "<0.512ms: 3, <1.024ms: 120, <2.048ms: 15, <16ms: 2".
+     * The last bucket is shown as ">" its lower bound.
+     */
+    String getHistogram();
+
+    void reset();
+}
@@ -0,0 +1,69 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing, plus the cursor for the next page.
+ *
+ * The cursor is opaque to callers: pass it back unchanged to get the following
+ * page. Internally it holds the sort key of the last row returned, so the next
+ * query seeks straight to it through an index ("WHERE key > ? ORDER BY key LIMIT n")
+ * instead of skipping rows with OFFSET. Page 1000 costs the same as page 1, and
+ * rows added or deleted elsewhere never shift a page or repeat a row.
+ */
+public class Page<T> {
+
+    private final List<T> rows;
+    private final String nextCursor;
+
+    public Page(List<T> rows, String nextCursor) {
+        this.rows = rows;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> Page<T> empty() {
+        return new Page<>(Collections.emptyList(), null);
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    /**
+     * The cursor for the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Builds a cursor for the position just after 'key' in a listing of the given kind.
+     */
+    static String encodeCursor(String kind, long key) {
+        String text = kind + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads back the key of a cursor made by encodeCursor() for the same kind of listing.
+     * Throws IllegalArgumentException for anything else (e.g. a cursor from another listing).
+     */
+    static long decodeCursor(String kind, String cursor) {
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!text.startsWith(kind + ":")) {
+                throw new IllegalArgumentException("Cursor is not for a " + kind + " listing");
+            }
+            return Long.parseLong(text.substring(kind.length() + 1));
+        } catch (IllegalArgumentException e) { // Also covers bad Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A read-only TableModel that loads its rows lazily, one page at a time.
+ *
+ * Only the pages the JTable actually asks for (i.e. the visible rows) are fetched,
+ * in the background, and a small LRU cache keeps the most recently used pages.
+ * Rows are kept as the caller's own objects (e.g. Employee), so nothing is
+ * copied into Object[] arrays.
+ *
+ * Single-row changes (appendRow, removeRow, updateRows) are applied to the cached
+ * pages in place and announced with one targeted table event, so adding, deleting
+ * or re-marking one row neither clears the cache nor re-queries the database.
+ *
+ * A page that comes back shorter than the row count promised (another writer
+ * deleted rows, or the query failed and returned nothing) ends the table there:
+ * the row count shrinks instead of the page being fetched again on every repaint.
+ * A failed fetch is only retried when the rows are shown again.
+ *
+ * All methods must be called on the Swing Event Dispatch Thread.
+ */
+public class PagedTableModel<T> extends AbstractTableModel {
+
+    /**
+     * Where the rows come from. Both methods are called on a background thread.
+     */
+    public interface PageSource<T> {
+
+        int countRows();
+
+        List<T> fetchPage(int offset, int limit);
+    }
+
+    /**
+     * Extracts the value of one column from a row object.
+     */
+    public interface ColumnAccessor<T> {
+
+        Object getValue(T row, int column);
+    }
+
+    private final String[] columnNames;
+    private final ColumnAccessor<T> accessor;
+    private final AsyncDatabaseManager dbManager;
+    private final int pageSize;
+    private final Map<Integer, List<T>> pageCache;
+    // Page index -> the request loading it, so only that request clears the entry
+    private final Map<Integer, Integer> pendingPages = new HashMap<>();
+    private int requestCount;
+
+    private PageSource<T> source;
+    private int rowCount;
+    // Incremented on every reload so that late results from an older load are ignored
+    private int generation;
+    // Incremented on every row insert/delete: a page fetched before one may be shifted
+    private int structureVersion;
+
+    public PagedTableModel(String[] columnNames, ColumnAccessor<T> accessor,
+            AsyncDatabaseManager dbManager, int pageSize, int maxCachedPages) {
+        this.columnNames = columnNames;
+        this.accessor = accessor;
+        this.dbManager = dbManager;
+        this.pageSize = pageSize;
+
+        // Access-ordered LinkedHashMap = simple LRU cache
+        this.pageCache = new LinkedHashMap<>(maxCachedPages, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxCachedPages;
+            }
+        };
+    }
+
+    /**
+     * Switches to a (possibly new) source and reloads from scratch.
+     * The row count is fetched in the background, then the table is told
+     * about the change with a single event. Rows are fetched as they are shown.
+     * The returned future completes (on the EDT) once the new row count is shown.
+     */
+    public CompletableFuture<Void> reload(PageSource<T> newSource) {
+        this.source = newSource;
+        int loadGeneration = ++generation;
+
+        return dbManager.supply(newSource::countRows).thenAcceptAsync(count -> {
+            if (loadGeneration != generation) {
+                return; // A newer reload has started
+            }
+            pageCache.clear();
+            pendingPages.clear();
+            structureVersion++;
+            rowCount = count;
+            fireTableDataChanged();
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Reloads using the current source.
+     */
+    public CompletableFuture<Void> reload() {
+        return source != null ? reload(source) : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Returns the row object, or null if its page has not been loaded yet.
+     */
+    public T getRow(int rowIndex) {
+        List<T> page = pageCache.get(rowIndex / pageSize);
+        if (page == null) {
+            requestPage(rowIndex / pageSize);
+            return null;
+        }
+        int indexInPage = rowIndex % pageSize;
+        if (indexInPage >= page.size()) {
+            // Page came up short after a removeRow (its next page was not cached): refetch it
+            if (rowIndex < rowCount) {
+                requestPage(rowIndex / pageSize);
+            }
+            return null;
+        }
+        return page.get(indexInPage);
+    }
+
+    /**
+     * Adds a row at the end of the table, for sources that append new rows
+     * (e.g. ordered by an increasing ID). 'isSameRow' identifies the row, so
+     * that it is not added twice if a page fetched after the change already has it.
+     */
+    public void appendRow(T row, Predicate<? super T> isSameRow) {
+        if (source == null) {
+            return;
+        }
+        int index = rowCount;
+        List<T> page = pageCache.get(index / pageSize);
+        if (page != null) {
+            int indexInPage = index % pageSize;
+            if (indexInPage < page.size() && isSameRow.test(page.get(indexInPage))) {
+                // Already there: only the count was behind
+            } else if (indexInPage == page.size()) {
+                page.add(row);
+            }
+        }
+        rowCount++;
+        structureVersion++;
+        pendingPages.clear();
+        fireTableRowsInserted(index, index);
+    }
+
+    /**
+     * Removes the first row matching 'isRow'. The rows after it move up by one
+     * within the cached pages. If the row is not in a cached page its position
+     * is unknown, so the table is reloaded instead.
+     */
+    public void removeRow(Predicate<? super T> isRow) {
+        if (source == null) {
+            return;
+        }
+        int index = indexOf(isRow);
+        if (index < 0) {
+            reload();
+            return;
+        }
+
+        int lastPage = (rowCount - 1) / pageSize;
+        for (int pageIndex = index / pageSize; pageIndex <= lastPage; pageIndex++) {
+            List<T> page = pageCache.get(pageIndex);
+            if (page == null) {
+                continue;
+            }
+            // The removed row (first page), or the row that moved up into the previous page
+            page.remove(pageIndex == index / pageSize ? index % pageSize : 0);
+            List<T> next = pageCache.get(pageIndex + 1);
+            if (next != null && !next.isEmpty()) {
+                page.add(next.get(0));
+            }
+        }
+        rowCount--;
+        structureVersion++;
+        pendingPages.clear();
+        fireTableRowsDeleted(index, index);
+    }
+
+    /**
+     * Replaces every cached row matching 'isRow' with update(row). Rows that are
+     * not cached need nothing: they are fetched fresh when they are shown.
+     */
+    public void updateRows(Predicate<? super T> isRow, UnaryOperator<T> update) {
+        List<Integer> changed = new ArrayList<>();
+        for (Map.Entry<Integer, List<T>> entry : pageCache.entrySet()) {
+            List<T> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                if (isRow.test(page.get(i))) {
+                    page.set(i, update.apply(page.get(i)));
+                    changed.add(entry.getKey() * pageSize + i);
+                }
+            }
+        }
+        // Fired after the loop: listeners may read the (access-ordered) cache
+        for (int rowIndex : changed) {
+            if (rowIndex < rowCount) {
+                fireTableRowsUpdated(rowIndex, rowIndex);
+            }
+        }
+    }
+
+    /**
+     * Index of the first cached row matching 'isRow', or -1.
+     */
+    private int indexOf(Predicate<? super T> isRow) {
+        int found = -1;
+        for (Map.Entry<Integer, List<T>> entry : pageCache.entrySet()) {
+            List<T> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                if (isRow.test(page.get(i))) {
+                    int rowIndex = entry.getKey() * pageSize + i;
+                    found = found < 0 ? rowIndex : Math.min(found, rowIndex);
+                    break; // Pages are not in row order, so keep looking in the others
+                }
+            }
+        }
+        return found;
+    }
+
+    private void requestPage(int pageIndex) {
+        if (source == null || pendingPages.containsKey(pageIndex)) {
+            return; // Already loading
+        }
+        int request = ++requestCount;
+        pendingPages.put(pageIndex, request);
+
+        PageSource<T> pageSource = source;
+        int loadGeneration = generation;
+        int loadStructureVersion = structureVersion;
+        dbManager.supply(() -> pageSource.fetchPage(pageIndex * pageSize, pageSize)).whenCompleteAsync((rows, error) -> {
+            pendingPages.remove(pageIndex, request); // Unless a reload or row change started a newer request
+            if (error != null) {
+                // Not retried here (that would spin while the database is down): showing the rows again retries
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                System.err.println("Error loading table page " + pageIndex + ": " + cause);
+                return;
+            }
+            if (loadGeneration != generation) {
+                return;
+            }
+            int firstRow = pageIndex * pageSize;
+            if (loadStructureVersion != structureVersion) {
+                // Rows were inserted/removed meanwhile, so this page may be off by some rows.
+                // Repainting asks for it again if it is still visible.
+                int lastRow = Math.min(firstRow + pageSize, rowCount) - 1;
+                if (lastRow >= firstRow) {
+                    fireTableRowsUpdated(firstRow, lastRow);
+                }
+                return;
+            }
+            pageCache.put(pageIndex, new ArrayList<>(rows)); // Own copy: edited in place by the row methods
+
+            if (firstRow + rows.size() < rowCount && rows.size() < pageSize) {
+                // Fewer rows than counted: the table ends here (see the class comment)
+                shrinkTo(firstRow + rows.size());
+                return;
+            }
+            int lastRow = Math.min(firstRow + pageSize, rowCount) - 1;
+            if (lastRow >= firstRow) {
+                fireTableRowsUpdated(firstRow, lastRow);
+            }
+        }, AsyncDatabaseManager.EDT);
+    }
+
+    /**
+     * Drops the rows from 'newRowCount' on, and the cached pages past the new end.
+     */
+    private void shrinkTo(int newRowCount) {
+        int oldRowCount = rowCount;
+        int lastPage = newRowCount / pageSize;
+        pageCache.keySet().removeIf(pageIndex -> pageIndex > lastPage);
+        pendingPages.keySet().removeIf(pageIndex -> pageIndex > lastPage);
+        rowCount = newRowCount;
+        structureVersion++;
+        fireTableRowsDeleted(newRowCount, oldRowCount - 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        T row = getRow(rowIndex);
+        return row == null ? null : accessor.getValue(row, columnIndex); // Blank until loaded
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * One row of the daily attendance report.
+ */
+public class ReportRow {
+
+    private final int employeeId;
+    private final String employeeName;
+    private final String status;
+
+    public ReportRow(int employeeId, String employeeName, String status) {
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.status = status;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
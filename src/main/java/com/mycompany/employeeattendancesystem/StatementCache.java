@@ -0,0 +1,259 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The prepared statements of one physical connection, kept open and reused.
+ *
+ * SQLite parses and plans a statement when it is prepared, so preparing the same
+ * SQL for every call wastes most of the time of a small query. ConnectionPool sends
+ * each conn.prepareStatement(sql) here: the first call prepares the statement and
+ * registers it under its SQL text; later calls with the same SQL (and the same
+ * generated-keys flag) get the already-compiled statement back.
+ *
+ * Callers see an ordinary PreparedStatement. Its close() does not close the real
+ * statement: it resets it (closing any open result set, clearing parameters, any
+ * unsent batch and warnings, and restoring fetch size, max rows and query timeout)
+ * and marks it free again. The least recently used statements are closed once the
+ * cache is full, and all of them are closed with the connection.
+ *
+ * Like the pool's other statements, a cached one reports the pooled connection
+ * (not the physical one) from getConnection(), and an SQLException from it or
+ * its result sets flags the pooled connection for validation.
+ *
+ * A connection is only used by one thread at a time (it is borrowed from the pool),
+ * so there is no contention; the methods are synchronized only to be safe at close.
+ */
+class StatementCache {
+
+    private final Connection physical;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final Map<Key, Entry> statements;
+
+    StatementCache(Connection physical, int maxStatements, LongAdder hits, LongAdder misses) {
+        this.physical = physical;
+        this.hits = hits;
+        this.misses = misses;
+
+        // Access-ordered LinkedHashMap = simple LRU cache
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= maxStatements) {
+                    return false;
+                }
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a statement for the SQL: the cached one if it is free, otherwise a new one.
+     * 'autoGeneratedKeys' is Statement.RETURN_GENERATED_KEYS or NO_GENERATED_KEYS.
+     * 'owner' is the pooled connection the caller holds; 'onError' flags it as failed.
+     */
+    synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection owner, Runnable onError)
+            throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        Entry entry = statements.get(key);
+        if (entry != null && !entry.inUse) {
+            hits.increment();
+            entry.inUse = true;
+            return entry.wrap(owner, onError);
+        }
+
+        misses.increment();
+        PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+        if (entry != null) {
+            // Same SQL is already open (e.g. nested use): hand out a plain, uncached one
+            return (PreparedStatement) ConnectionPool.track(statement, PreparedStatement.class, owner, null, onError);
+        }
+        entry = new Entry(statement);
+        entry.inUse = true;
+        statements.put(key, entry);
+        return entry.wrap(owner, onError);
+    }
+
+    /**
+     * Closes every cached statement (called just before the connection is closed).
+     */
+    synchronized void closeAll() {
+        List<Entry> entries = new ArrayList<>(statements.values());
+        statements.clear();
+        for (Entry entry : entries) {
+            entry.closeQuietly();
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private synchronized void giveBack(Entry entry) {
+        if (entry.evicted) {
+            entry.closeQuietly(); // Pushed out of the cache while it was in use
+            return;
+        }
+        try {
+            // Leave it exactly like a freshly prepared statement
+            ResultSet open = entry.statement.getResultSet();
+            if (open != null) {
+                open.close(); // Resets the statement, so no read lock is held
+            }
+            entry.statement.clearParameters();
+            entry.statement.clearBatch(); // Rows added by a caller that failed before executeBatch()
+            entry.statement.clearWarnings();
+            entry.restoreSettings();
+            entry.inUse = false;
+        } catch (SQLException e) {
+            // Could not reset it: drop it instead of reusing it
+            statements.values().remove(entry);
+            entry.closeQuietly();
+        }
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {
+    }
+
+    /**
+     * One cached statement and whether it is currently handed out.
+     */
+    private class Entry {
+
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+        // Settings a caller may change, as they were when the statement was prepared
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+
+        Entry(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        /**
+         * Puts back the settings changed by the last borrower (only those that
+         * changed, since some drivers do real work in these setters).
+         */
+        void restoreSettings() throws SQLException {
+            if (statement.getFetchSize() != fetchSize) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (statement.getMaxRows() != maxRows) {
+                statement.setMaxRows(maxRows);
+            }
+            if (statement.getQueryTimeout() != queryTimeout) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing cached statement: " + e.getMessage());
+            }
+        }
+
+        PreparedStatement wrap(Connection owner, Runnable onError) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    StatementCache.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new CachedStatementHandler(this, owner, onError));
+        }
+    }
+
+    /**
+     * Forwards every call to the cached statement, except close(),
+     * which gives the statement back to the cache, and getConnection(),
+     * which returns the pooled connection.
+     */
+    private class CachedStatementHandler implements InvocationHandler {
+
+        private final Entry entry;
+        private final Connection owner;
+        private final Runnable onError;
+        private boolean returned;
+
+        CachedStatementHandler(Entry entry, Connection owner, Runnable onError) {
+            this.entry = entry;
+            this.owner = owner;
+            this.onError = onError;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + entry.statement + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Statement is closed");
+            }
+            if (method.getName().equals("getConnection")) {
+                return owner;
+            }
+            Object result;
+            try {
+                result = method.invoke(entry.statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException) {
+                    onError.run();
+                }
+                throw e.getCause();
+            }
+            return ConnectionPool.trackResult(result, method, owner, proxy, onError);
+        }
+    }
+
+    /**
+     * True if this prepareStatement(...) overload can be cached.
+     */
+    static boolean isCacheable(Object[] args) {
+        return args.length == 1
+                || (args.length == 2 && args[1] instanceof Integer
+                        && ((Integer) args[1] == Statement.RETURN_GENERATED_KEYS
+                        || (Integer) args[1] == Statement.NO_GENERATED_KEYS));
+    }
+}
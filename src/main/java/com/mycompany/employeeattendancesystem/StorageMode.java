@@ -0,0 +1,20 @@
+package com.mycompany.employeeattendancesystem;
+
+/**
+ * How SQLite stores uncommitted changes in attendance.db.
+ */
+public enum StorageMode {
+
+    /**
+     * SQLite's default rollback journal. Readers and the writer block each other,
+     * and all methods share one connection pool.
+     */
+    ROLLBACK_JOURNAL,
+
+    /**
+     * Write-ahead log. Readers never block the writer (and vice versa), so read-only
+     * methods use a separate pool of read-only connections, and a background
+     * checkpointer keeps the -wal file from growing without bound.
+     */
+    WAL
+}
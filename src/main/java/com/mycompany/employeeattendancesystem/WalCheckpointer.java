@@ -0,0 +1,105 @@
+package com.mycompany.employeeattendancesystem;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodically checkpoints the SQLite write-ahead log (WAL mode only).
+ *
+ * A PASSIVE checkpoint copies committed pages back into attendance.db without
+ * waiting for readers or writers. If the log has still grown past a threshold,
+ * a TRUNCATE checkpoint is run to reset the -wal file to zero bytes, so it
+ * cannot grow without bound while the app is busy.
+ *
+ * A checkpoint writes to the database file, so each one runs as a write on the
+ * DatabaseWriter thread: it never competes with this process's own writes for the
+ * lock, and a "database is locked" from another process is retried with the
+ * writer's backoff like any other write.
+ */
+public class WalCheckpointer implements AutoCloseable {
+
+    // Log size (in pages, ~4 KB each) above which the -wal file is truncated
+    private static final int TRUNCATE_THRESHOLD_PAGES = 4000;
+
+    private final ConnectionPool pool;
+    private final DatabaseWriter writer;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder checkpointCount = new LongAdder();
+    private final LongAdder truncateCount = new LongAdder();
+    private volatile int lastLogPages;
+
+    public WalCheckpointer(ConnectionPool pool, DatabaseWriter writer, long intervalSeconds) {
+        this.pool = pool;
+        this.writer = writer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wal-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkpoint, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void checkpoint() {
+        try {
+            // Two separate writes, so queued attendance writes can go in between
+            int logPages = writer.execute(() -> runCheckpoint("PASSIVE"));
+            if (logPages > TRUNCATE_THRESHOLD_PAGES) {
+                logPages = writer.execute(() -> runCheckpoint("TRUNCATE"));
+                truncateCount.increment();
+            }
+            lastLogPages = logPages;
+            checkpointCount.increment();
+        } catch (SQLException e) {
+            System.err.println("Error checkpointing WAL: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs one checkpoint and returns the number of pages in the log.
+     * The pragma returns (busy, log pages, checkpointed pages).
+     */
+    private int runCheckpoint(String mode) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA wal_checkpoint(" + mode + ")")) {
+            return rs.next() ? rs.getInt(2) : 0;
+        }
+    }
+
+    public long getCheckpointCount() {
+        return checkpointCount.sum();
+    }
+
+    public long getTruncateCount() {
+        return truncateCount.sum();
+    }
+
+    public int getLastLogPages() {
+        return lastLogPages;
+    }
+
+    /**
+     * Stops the schedule and runs one final checkpoint so the -wal file is empty on exit.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writer.execute(() -> runCheckpoint("TRUNCATE"));
+        } catch (SQLException e) {
+            System.err.println("Error checkpointing WAL at shutdown: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Headcounts and set queries of the attendance bitmap index, including the
+ * switch of a bitmap from its sparse (sorted array) to its dense (long[]) form.
+ */
+class AttendanceBitmapIndexTest {
+
+    private static final long DAY = 19_800;
+
+    @Test
+    void bitmapKeepsItsContentWhenItTurnsDense() {
+        EmployeeBitmap bitmap = new EmployeeBitmap();
+        BitSet expected = new BitSet();
+        // Every third ordinal: starts sparse, becomes dense on the way
+        for (int ordinal = 999; ordinal >= 0; ordinal -= 3) {
+            bitmap.add(ordinal);
+            bitmap.add(ordinal); // Adding twice changes nothing
+            expected.set(ordinal);
+        }
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+        assertArrayEquals(expected.toLongArray(), bits(bitmap, 1000));
+
+        for (int ordinal = 0; ordinal < 1000; ordinal += 2) {
+            bitmap.remove(ordinal);
+            expected.clear(ordinal);
+        }
+        bitmap.add(5000); // Past the end of the dense words
+        expected.set(5000);
+        assertEquals(expected.cardinality(), bitmap.cardinality());
+        assertArrayEquals(expected.toLongArray(), bits(bitmap, 5001));
+    }
+
+    @Test
+    void sparseBitmapRemovesAndAnds() {
+        EmployeeBitmap bitmap = new EmployeeBitmap();
+        bitmap.add(3);
+        bitmap.add(70);
+        bitmap.add(1);
+        bitmap.remove(3);
+        bitmap.remove(4); // Not there
+        assertEquals(2, bitmap.cardinality());
+
+        long[] target = {-1L, -1L};
+        bitmap.andInto(target);
+        assertArrayEquals(new long[]{1L << 1, 1L << (70 - 64)}, target);
+    }
+
+    @Test
+    void markReplacesTheEarlierStatus() {
+        AttendanceBitmapIndex index = indexWith(1000);
+        for (int id = 1; id <= 1000; id++) {
+            index.mark(id, DAY, "Present");
+        }
+        assertArrayEquals(new int[]{1000, 0, 0}, index.countAll(DAY));
+
+        for (int id = 1; id <= 1000; id += 2) {
+            index.mark(id, DAY, "Absent");
+        }
+        index.mark(2, DAY, "On Leave");
+        assertArrayEquals(new int[]{499, 500, 1}, index.countAll(DAY));
+        assertEquals(500, index.count(DAY, "Absent"));
+    }
+
+    @Test
+    void removedEmployeesDropOutOfEveryDay() {
+        AttendanceBitmapIndex index = indexWith(3);
+        index.mark(1, DAY, "Present");
+        index.mark(2, DAY, "Present");
+        index.mark(2, DAY + 1, "Absent");
+        index.mark(99, DAY, "Present"); // Unknown employee: ignored
+
+        index.removeEmployee(2);
+        assertArrayEquals(new int[]{1, 0, 0}, index.countAll(DAY));
+        assertArrayEquals(new int[]{0, 0, 0}, index.countAll(DAY + 1));
+        assertArrayEquals(new int[]{1}, index.onAnyDay(DAY, DAY + 1, "Present"));
+    }
+
+    @Test
+    void rangeQueries() {
+        AttendanceBitmapIndex index = indexWith(3);
+        // Employee 1 absent three days in a row, employee 2 twice with a gap, employee 3 never
+        for (long day = DAY; day < DAY + 5; day++) {
+            index.mark(1, day, day < DAY + 3 ? "Absent" : "Present");
+            index.mark(2, day, day == DAY || day == DAY + 2 ? "Absent" : "Present");
+            index.mark(3, day, "Present");
+        }
+
+        assertArrayEquals(new int[]{3}, index.onAllDays(DAY, DAY + 4, "Present"));
+        assertArrayEquals(new int[]{1, 2}, index.onAnyDay(DAY, DAY + 4, "Absent"));
+        assertArrayEquals(new int[]{1}, index.onConsecutiveDays(DAY, DAY + 4, "Absent", 3));
+        assertArrayEquals(new int[]{2, 1, 2, 0, 0}, index.countPerDay(DAY, DAY + 4, "Absent"));
+    }
+
+    private static AttendanceBitmapIndex indexWith(int employees) {
+        AttendanceBitmapIndex index = new AttendanceBitmapIndex();
+        for (int id = 1; id <= employees; id++) {
+            index.addEmployee(id);
+        }
+        return index;
+    }
+
+    private static long[] bits(EmployeeBitmap bitmap, int ordinals) {
+        long[] words = new long[EmployeeBitmap.wordCount(ordinals)];
+        bitmap.orInto(words);
+        return words;
+    }
+}
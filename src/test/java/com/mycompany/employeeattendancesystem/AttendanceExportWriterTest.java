@@ -0,0 +1,33 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV cell escaping in the attendance export.
+ */
+class AttendanceExportWriterTest {
+
+    @Test
+    void plainValuesAreWrittenUnchanged() {
+        assertEquals("Jane Doe", AttendanceExportWriter.CsvWriter.escape("Jane Doe"));
+        assertEquals("On Leave", AttendanceExportWriter.CsvWriter.escape("On Leave"));
+    }
+
+    @Test
+    void commasQuotesAndLineBreaksAreQuoted() {
+        assertEquals("\"Doe, Jane\"", AttendanceExportWriter.CsvWriter.escape("Doe, Jane"));
+        assertEquals("\"Jane \"\"JD\"\" Doe\"", AttendanceExportWriter.CsvWriter.escape("Jane \"JD\" Doe"));
+        assertEquals("\"a\nb\"", AttendanceExportWriter.CsvWriter.escape("a\nb"));
+    }
+
+    @Test
+    void formulaLikeValuesBecomeText() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", AttendanceExportWriter.CsvWriter.escape("=HYPERLINK(\"x\")"));
+        assertEquals("\"'+1\"", AttendanceExportWriter.CsvWriter.escape("+1"));
+        assertEquals("\"'-2+3\"", AttendanceExportWriter.CsvWriter.escape("-2+3"));
+        assertEquals("\"'@SUM(A1)\"", AttendanceExportWriter.CsvWriter.escape("@SUM(A1)"));
+        assertEquals("\"'\tx\"", AttendanceExportWriter.CsvWriter.escape("\tx"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Both engines accept and reject the same employees and marks.
+ */
+class AttendanceRepositoryRulesTest {
+
+    @TempDir
+    Path dir;
+
+    private AttendanceRepository open(String engine) {
+        if (engine.equals("sqlite")) {
+            return new DatabaseManager("jdbc:sqlite:" + dir.resolve("attendance.db"));
+        }
+        return new InMemoryAttendanceRepository();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sqlite", "memory"})
+    void badMarksAreRejected(String engine) {
+        try (AttendanceRepository repo = open(engine)) {
+            assertTrue(repo.addEmployee("Ann", "Clerk", "ann@example.com"));
+
+            assertTrue(repo.markAttendance(1, "2024-03-01", "Present"));
+            assertFalse(repo.markAttendance(1, "2024-03-01", "Late"));
+            assertFalse(repo.markAttendance(1, "2024-03-01", null));
+            assertFalse(repo.markAttendance(99, "2024-03-01", "Present"));
+            assertFalse(repo.markAttendance(1, "03/01/2024", "Present"));
+            assertFalse(repo.markAttendance(1, null, "Present"));
+
+            assertArrayEquals(new int[] {1, 0, 0}, repo.getDailyStatusCounts("2024-03-01"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sqlite", "memory"})
+    void batchWithOneBadRowMarksNothing(String engine) {
+        try (AttendanceRepository repo = open(engine)) {
+            repo.addEmployee("Ann", "Clerk", "ann@example.com");
+            repo.addEmployee("Bob", "Clerk", "bob@example.com");
+
+            List<AttendanceEntry> entries = new ArrayList<>();
+            entries.add(new AttendanceEntry(1, "2024-03-01", "Present"));
+            entries.add(new AttendanceEntry(99, "2024-03-01", "Present"));
+            assertFalse(repo.markAttendanceBatch(entries));
+
+            entries.set(1, new AttendanceEntry(2, "2024-03-01", "Late"));
+            assertFalse(repo.markAttendanceBatch(entries));
+
+            assertArrayEquals(new int[] {0, 0, 0}, repo.getDailyStatusCounts("2024-03-01"));
+
+            entries.set(1, new AttendanceEntry(2, "2024-03-01", "Absent"));
+            assertTrue(repo.markAttendanceBatch(entries));
+            assertArrayEquals(new int[] {1, 1, 0}, repo.getDailyStatusCounts("2024-03-01"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sqlite", "memory"})
+    void employeesNeedEveryFieldAndAUniqueEmail(String engine) {
+        try (AttendanceRepository repo = open(engine)) {
+            assertFalse(repo.addEmployee("Ann", null, "ann@example.com"));
+            assertFalse(repo.addEmployee(null, "Clerk", "ann@example.com"));
+            assertTrue(repo.addEmployee("Ann", "Clerk", "ann@example.com"));
+            assertFalse(repo.addEmployee("Ann", "Clerk", "ann@example.com"));
+            assertEquals(1, repo.countEmployees());
+
+            // Duplicates are skipped, the rest go in
+            List<Employee> batch = new ArrayList<>();
+            batch.add(new Employee(0, "Ann", "Clerk", "ann@example.com"));
+            batch.add(new Employee(0, "Bob", "Clerk", "bob@example.com"));
+            batch.add(new Employee(0, "Bob", "Clerk", "bob@example.com"));
+            List<String> duplicates = new ArrayList<>();
+            assertEquals(1, repo.addEmployeesBatch(batch, duplicates));
+            assertEquals(List.of("ann@example.com", "bob@example.com"), duplicates);
+
+            // A row with a missing field fails the whole batch
+            batch.clear();
+            batch.add(new Employee(0, "Cid", "Cook", "cid@example.com"));
+            batch.add(new Employee(0, "Dee", "Cook", null));
+            assertEquals(-1, repo.addEmployeesBatch(batch, new ArrayList<>()));
+            assertEquals(2, repo.countEmployees());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sqlite", "memory"})
+    void summaryRangesAreCapped(String engine) {
+        try (AttendanceRepository repo = open(engine)) {
+            repo.addEmployee("Ann", "Clerk", "ann@example.com");
+            String from = "2020-01-01";
+            String lastAllowed = LocalDate.parse(from).plusDays(AttendanceRepository.MAX_SUMMARY_DAYS - 1).toString();
+            String tooFar = LocalDate.parse(lastAllowed).plusDays(1).toString();
+
+            assertEquals(AttendanceRepository.MAX_SUMMARY_DAYS, repo.getDailySummary(from, lastAllowed).size());
+            assertEquals(1, repo.getAttendanceSummary(from, lastAllowed).size());
+            assertTrue(repo.getDailySummary(from, tooFar).isEmpty());
+            assertTrue(repo.getAttendanceSummary(from, tooFar).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Group commit of attendance marks: flush(), close() and what happens to bad rows.
+ */
+class AttendanceWriteBehindTest {
+
+    private static final String DAY = "2024-03-01";
+
+    @TempDir
+    Path dir;
+
+    private DatabaseManager db;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void openDatabase() {
+        db = new DatabaseManager("jdbc:sqlite:" + dir.resolve("attendance.db"));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(db.addEmployee("Employee " + i, "Clerk", "e" + i + "@example.com"));
+        }
+        employees = db.getAllEmployees();
+    }
+
+    @AfterEach
+    void closeDatabase() {
+        db.close();
+    }
+
+    @Test
+    void flushMakesQueuedMarksVisible() {
+        // A long latency window: only flush() can get the rows written in time
+        db.enableWriteBehind(1000, 60_000);
+        for (Employee e : employees) {
+            assertTrue(db.markAttendance(e.getId(), DAY, "Present"));
+        }
+
+        // Reads flush the journal first
+        for (ReportRow row : db.getAttendanceReport(DAY)) {
+            assertEquals("Present", row.getStatus());
+        }
+    }
+
+    @Test
+    void queueAndCommitStatsArePublishedOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.mycompany.employeeattendancesystem:type=AttendanceWriteBehind,name=journal");
+        db.enableWriteBehind(1000, 60_000);
+        assertTrue(db.markAttendance(employees.get(0).getId(), DAY, "Present"));
+        db.getAttendanceReport(DAY); // Flushes
+
+        assertEquals(1L, server.getAttribute(name, "RowsWritten"));
+        assertEquals(0, server.getAttribute(name, "QueueDepth"));
+        db.close();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void closeCommitsEverythingQueued() {
+        AttendanceWriteBehind journal = new AttendanceWriteBehind(db, 1000, 60_000, 1000);
+        for (Employee e : employees) {
+            assertTrue(journal.submit(new AttendanceEntry(e.getId(), DAY, "Absent")));
+        }
+        journal.close();
+
+        assertEquals(employees.size(), journal.getRowsWritten());
+        assertFalse(journal.submit(new AttendanceEntry(employees.get(0).getId(), DAY, "Present")));
+        for (ReportRow row : db.getAttendanceReport(DAY)) {
+            assertEquals("Absent", row.getStatus());
+        }
+    }
+
+    @Test
+    void badRowIsRejectedAloneAndTheRestOfTheGroupIsWritten() {
+        AttendanceWriteBehind journal = new AttendanceWriteBehind(db, 1000, 60_000, 1000);
+        for (Employee e : employees) {
+            journal.submit(new AttendanceEntry(e.getId(), DAY, "On Leave"));
+        }
+        // Bypasses markAttendance()'s checks; the group write then fails on it
+        journal.submit(new AttendanceEntry(employees.get(0).getId(), "2024-03-02", null));
+        journal.close();
+
+        assertEquals(1, journal.getRowsRejected());
+        assertEquals(0, journal.getRowsLost());
+        assertEquals(employees.size(), journal.getRowsWritten());
+        for (ReportRow row : db.getAttendanceReport(DAY)) {
+            assertEquals("On Leave", row.getStatus());
+        }
+    }
+
+    @Test
+    void markAttendanceRejectsBadRowsBeforeQueueing() {
+        db.enableWriteBehind(1000, 60_000);
+        int id = employees.get(0).getId();
+
+        assertFalse(db.markAttendance(id, DAY, "Holiday"));
+        assertFalse(db.markAttendance(id, DAY, null));
+        assertFalse(db.markAttendance(id, "03/01/2024", "Present"));
+        assertFalse(db.markAttendance(-1, DAY, "Present"));
+        assertTrue(db.markAttendance(id, DAY, "Present"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * A connection is validated again after an SQL error on it or its statements,
+ * and statements never hand out the physical connection.
+ */
+class ConnectionPoolTest {
+
+    private static final String INSERT = "INSERT INTO t(v) VALUES (?)";
+
+    @TempDir
+    Path dir;
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void openPool() throws SQLException {
+        pool = new ConnectionPool("jdbc:sqlite:" + dir.resolve("pool.db"), 1);
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t(v INTEGER UNIQUE)");
+            stmt.execute("INSERT INTO t(v) VALUES (1)");
+        }
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void cleanUseIsNotValidated() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT)) {
+            pstmt.setInt(1, 2);
+            pstmt.executeUpdate();
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(0, pool.getValidationCount());
+        }
+    }
+
+    @Test
+    void errorFromACachedStatementLeadsToValidation() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT)) {
+            pstmt.setInt(1, 1); // Already there
+            assertThrows(SQLException.class, pstmt::executeUpdate);
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(1, pool.getValidationCount());
+        }
+        // Validated once; clean use afterwards is trusted again
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(1, pool.getValidationCount());
+        }
+    }
+
+    @Test
+    void errorFromAPlainStatementLeadsToValidation() throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.executeUpdate("INSERT INTO t(v) VALUES (1)"));
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(1, pool.getValidationCount());
+        }
+    }
+
+    @Test
+    void errorWhileReadingRowsLeadsToValidation() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT v FROM t");
+             ResultSet rs = pstmt.executeQuery()) {
+            assertThrows(SQLException.class, () -> rs.getInt("no_such_column"));
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(1, pool.getValidationCount());
+        }
+    }
+
+    @Test
+    void statementsReturnThePooledConnection() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement cached = conn.prepareStatement("SELECT v FROM t");
+             Statement plain = conn.createStatement();
+             ResultSet rs = cached.executeQuery()) {
+            assertSame(conn, cached.getConnection());
+            assertSame(conn, plain.getConnection());
+            assertSame(cached, rs.getStatement());
+        }
+    }
+
+    @Test
+    void statementsReturnThePooledConnectionWithoutACache() throws SQLException {
+        try (ConnectionPool uncached = new ConnectionPool("jdbc:sqlite:" + dir.resolve("pool.db"), 1,
+                new Properties(), 0);
+             Connection conn = uncached.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT)) {
+            assertSame(conn, pstmt.getConnection());
+            pstmt.setInt(1, 1);
+            assertThrows(SQLException.class, pstmt::executeUpdate);
+            conn.close();
+            try (Connection again = uncached.getConnection()) {
+                assertEquals(1, uncached.getValidationCount());
+            }
+        }
+    }
+}
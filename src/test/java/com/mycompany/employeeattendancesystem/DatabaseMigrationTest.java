@@ -0,0 +1,126 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Opening an attendance.db from before the schema versions (TEXT dates, no
+ * daily_summary, no search index) upgrades it to the current schema.
+ */
+class DatabaseMigrationTest {
+
+    @TempDir
+    Path dir;
+
+    private String url;
+
+    @BeforeEach
+    void createLegacyDatabase() throws SQLException {
+        url = "jdbc:sqlite:" + dir.resolve("attendance.db");
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            // The original schema: dates as 'yyyy-MM-dd' text
+            stmt.execute("CREATE TABLE employees (id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                    + " name TEXT NOT NULL, position TEXT NOT NULL, email TEXT UNIQUE NOT NULL)");
+            stmt.execute("CREATE TABLE admin (id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                    + " username TEXT UNIQUE NOT NULL, password TEXT NOT NULL)");
+            stmt.execute("CREATE TABLE attendance (attendance_id INTEGER PRIMARY KEY AUTOINCREMENT,"
+                    + " employee_id INTEGER NOT NULL, date TEXT NOT NULL, status TEXT NOT NULL,"
+                    + " FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,"
+                    + " UNIQUE(employee_id, date))");
+
+            stmt.execute("INSERT INTO employees (id, name, position, email) VALUES"
+                    + " (1, 'Ann Lee', 'Clerk', 'ann@example.com'), (2, 'Bob Stone', 'Driver', 'bob@example.com')");
+            stmt.execute("INSERT INTO attendance (employee_id, date, status) VALUES"
+                    + " (1, '2024-02-29', 'Present'), (2, '2024-02-29', 'Absent'),"
+                    + " (1, '2024-03-01', 'On Leave'),"
+                    + " (7, '2024-02-29', 'Present')"); // Employee 7 was deleted long ago
+        }
+    }
+
+    @Test
+    void upgradesToTheCurrentSchemaWithoutLosingRows() throws SQLException {
+        DatabaseManager db = new DatabaseManager(url);
+        try {
+            List<ReportRow> report = db.getAttendanceReport("2024-02-29");
+            assertEquals(2, report.size());
+            assertEquals("Present", report.get(0).getStatus());
+            assertEquals("Absent", report.get(1).getStatus());
+            assertEquals("On Leave", db.getAttendanceReport("2024-03-01").get(0).getStatus());
+
+            // The summary counts current employees only
+            List<DailySummary> summary = db.getDailySummary("2024-02-29", "2024-03-01");
+            assertEquals(1, summary.get(0).getPresent());
+            assertEquals(1, summary.get(0).getAbsent());
+            assertEquals(1, summary.get(1).getOnLeave());
+
+            assertEquals(1, db.searchEmployees("sto", 10).size()); // Full-text index built
+        } finally {
+            db.close();
+        }
+
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            assertEquals(5, queryInt(stmt, "PRAGMA user_version"));
+            assertEquals("integer", queryString(stmt, "SELECT typeof(date) FROM attendance LIMIT 1"));
+            // The deleted employee's row is kept, moved out of the attendance table
+            assertEquals(3, queryInt(stmt, "SELECT COUNT(*) FROM attendance"));
+            assertEquals(7, queryInt(stmt, "SELECT employee_id FROM attendance_orphaned"));
+            assertEquals("2024-02-29", queryString(stmt, "SELECT date(date * 86400, 'unixepoch') FROM attendance_orphaned"));
+        }
+    }
+
+    @Test
+    void reopeningAnUpgradedDatabaseChangesNothing() throws SQLException {
+        new DatabaseManager(url).close();
+        DatabaseManager db = new DatabaseManager(url);
+        try {
+            assertEquals(2, db.getAttendanceReport("2024-02-29").size());
+            assertEquals(1, db.getDailySummary("2024-02-29", "2024-02-29").get(0).getPresent());
+        } finally {
+            db.close();
+        }
+    }
+
+    @Test
+    void marksCanBeChangedAfterReopening() {
+        new DatabaseManager(url).close();
+        DatabaseManager db = new DatabaseManager(url);
+        try {
+            // Both go through the daily_summary triggers of a day that already has a row
+            assertTrue(db.markAttendance(1, "2024-02-29", "Absent"));
+            assertTrue(db.markAttendance(2, "2024-03-01", "Present"));
+
+            DailySummary day = db.getDailySummary("2024-02-29", "2024-02-29").get(0);
+            assertEquals(0, day.getPresent());
+            assertEquals(2, day.getAbsent());
+            assertEquals(1, db.getDailySummary("2024-03-01", "2024-03-01").get(0).getPresent());
+            assertTrue(db.verifyDailySummary().isEmpty());
+        } finally {
+            db.close();
+        }
+    }
+
+    private static int queryInt(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.getInt(1);
+        }
+    }
+
+    private static String queryString(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Retrying with backoff while another process holds the database lock.
+ */
+class DatabaseWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private String url;
+    private Connection otherProcess; // Holds the lock
+    private Connection conn;         // Used by the writes under test
+
+    @BeforeEach
+    void openDatabase() throws SQLException {
+        url = "jdbc:sqlite:" + dir.resolve("attendance.db");
+        otherProcess = DriverManager.getConnection(url);
+        try (Statement stmt = otherProcess.createStatement()) {
+            stmt.execute("CREATE TABLE marks (id INTEGER PRIMARY KEY)");
+        }
+        Properties props = new Properties();
+        props.setProperty("busy_timeout", "0"); // A locked database fails at once, so the writer retries
+        conn = DriverManager.getConnection(url, props);
+    }
+
+    @AfterEach
+    void closeDatabase() throws SQLException {
+        conn.close();
+        otherProcess.close();
+    }
+
+    @Test
+    void writeIsRetriedUntilTheLockIsReleased() throws Exception {
+        DatabaseWriter writer = new DatabaseWriter(10_000);
+        lock();
+        Thread release = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+                unlock();
+            } catch (InterruptedException | SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        release.start();
+
+        try {
+            assertEquals(1, (int) writer.execute(this::insertMark));
+        } finally {
+            release.join();
+            writer.close();
+        }
+        assertEquals(1, writer.getContendedWriteCount());
+        assertTrue(writer.getBusyRetryCount() > 0);
+        assertEquals(0, writer.getBusyFailureCount());
+    }
+
+    @Test
+    void writeFailsOnceTheRetryTimeRunsOut() throws SQLException {
+        DatabaseWriter writer = new DatabaseWriter(200);
+        lock();
+        try {
+            SQLException e = assertThrows(SQLException.class, () -> writer.execute(this::insertMark));
+            assertTrue(DatabaseWriter.isBusy(e));
+        } finally {
+            unlock();
+            writer.close();
+        }
+        assertEquals(1, writer.getBusyFailureCount());
+    }
+
+    private int insertMark() throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            return stmt.executeUpdate("INSERT INTO marks DEFAULT VALUES");
+        }
+    }
+
+    private void lock() throws SQLException {
+        try (Statement stmt = otherProcess.createStatement()) {
+            stmt.execute("BEGIN EXCLUSIVE");
+        }
+    }
+
+    private void unlock() throws SQLException {
+        try (Statement stmt = otherProcess.createStatement()) {
+            stmt.execute("COMMIT");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV record parsing and the line numbers used in import messages.
+ */
+class EmployeeCsvImporterTest {
+
+    @Test
+    void quotedFieldsMayHoldCommasQuotesAndLineBreaks() throws IOException {
+        EmployeeCsvImporter.RecordReader records = reader(
+                "name,position,email\r\n"
+                + "\"Smith, John\",\"Says \"\"hi\"\"\",john@example.com\r\n"
+                + "\"Ann\nMarie\",Clerk,ann@example.com\n");
+
+        assertEquals(List.of("name", "position", "email"), records.next());
+        assertEquals(List.of("Smith, John", "Says \"hi\"", "john@example.com"), records.next());
+        assertEquals(List.of("Ann\nMarie", "Clerk", "ann@example.com"), records.next());
+        assertNull(records.next());
+    }
+
+    @Test
+    void startLineCountsPhysicalLines() throws IOException {
+        EmployeeCsvImporter.RecordReader records = reader(
+                "name,position,email\n"
+                + "\"A\nB\nC\",Clerk,a@example.com\n"
+                + "\n"
+                + "D,Clerk,d@example.com\n");
+
+        records.next();
+        assertEquals(1, records.getStartLine());
+        records.next();
+        assertEquals(2, records.getStartLine());
+        records.next(); // The empty line
+        assertEquals(5, records.getStartLine());
+        assertEquals("D", records.next().get(0));
+        assertEquals(6, records.getStartLine());
+    }
+
+    private static EmployeeCsvImporter.RecordReader reader(String csv) {
+        return new EmployeeCsvImporter.RecordReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prefix lookups in the type-ahead index.
+ */
+class EmployeeSearchIndexTest {
+
+    private final EmployeeSearchIndex index = new EmployeeSearchIndex();
+    private final Employee annLee = new Employee(1, "Ann Lee", "Clerk", "ann.lee@example.com");
+    private final Employee annaSmith = new Employee(2, "Anna Smith", "Manager", "asmith@example.com");
+    private final Employee bobAnnan = new Employee(3, "Bob Annan", "Driver", "bob@example.com");
+
+    @BeforeEach
+    void fill() {
+        index.add(annLee);
+        index.add(annaSmith);
+        index.add(bobAnnan);
+    }
+
+    @Test
+    void matchesAnyWordOfTheNameOrTheEmailIgnoringCase() {
+        assertEquals(List.of(1), ids(index.search("LEE", 10)));
+        assertEquals(List.of(2), ids(index.search("asm", 10)));
+        assertEquals(List.of(3), ids(index.search("bob annan", 10)));
+    }
+
+    @Test
+    void shorterTermsComeFirstAndEachEmployeeOnlyOnce() {
+        // "ann" matches the name, a word and the email of Ann Lee, but she is listed once
+        assertEquals(List.of(1, 2, 3), ids(index.search("ann", 10)));
+        assertEquals(List.of(1, 2), ids(index.search("ann", 2)));
+    }
+
+    @Test
+    void removedEmployeesAreNotFound() {
+        index.remove(annaSmith);
+        assertEquals(List.of(1, 3), ids(index.search("ann", 10)));
+        assertTrue(index.search("asmith", 10).isEmpty());
+    }
+
+    @Test
+    void blankQueryOrZeroLimitFindsNothing() {
+        assertTrue(index.search("   ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+        assertTrue(index.search("ann", 0).isEmpty());
+    }
+
+    private static List<Integer> ids(List<Employee> employees) {
+        List<Integer> ids = new ArrayList<>();
+        for (Employee emp : employees) {
+            ids.add(emp.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Saving the in-memory engine to a snapshot file and loading it back.
+ */
+class InMemoryAttendanceRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void snapshotRoundTrip() {
+        Path file = dir.resolve("attendance.snapshot");
+        try (InMemoryAttendanceRepository repo = new InMemoryAttendanceRepository(file)) {
+            repo.addEmployee("Ann", "Clerk", "ann@example.com");
+            repo.addEmployee("Bob", "Driver", "bob@example.com");
+            repo.addEmployee("Cid", "Cook", "cid@example.com");
+            assertTrue(repo.deleteEmployee(3));
+            assertTrue(repo.markAttendance(1, "2024-03-01", "Present"));
+            assertTrue(repo.markAttendance(1, "2024-03-02", "Absent"));
+            assertTrue(repo.markAttendance(2, "2024-03-02", "On Leave"));
+        }
+
+        try (InMemoryAttendanceRepository repo = new InMemoryAttendanceRepository(file)) {
+            List<Employee> employees = repo.getAllEmployees();
+            assertEquals(2, employees.size());
+            assertEquals("Ann", employees.get(0).getName());
+            assertEquals("bob@example.com", employees.get(1).getEmail());
+            assertTrue(repo.validateAdmin("admin", "admin123"));
+
+            List<AttendanceEntry> history = repo.getAttendanceHistory(1, null, 10).getRows();
+            assertEquals(2, history.size());
+            assertEquals("2024-03-02", history.get(0).getDate());
+            assertEquals("Absent", history.get(0).getStatus());
+            assertArrayEquals(new int[] {1, 1, 0}, repo.getEmployeeStatusCounts(1));
+            assertArrayEquals(new int[] {0, 1, 1}, repo.getDailyStatusCounts("2024-03-02"));
+
+            // Email lookups and the ID counter come back too: no reused IDs, no duplicate emails
+            assertFalse(repo.addEmployee("Ann again", "Clerk", "ann@example.com"));
+            assertTrue(repo.addEmployee("Dee", "Clerk", "dee@example.com"));
+            assertNull(repo.getEmployee(3));
+            assertEquals("Dee", repo.getEmployee(4).getName());
+        }
+    }
+
+    @Test
+    void unreadableSnapshotStartsEmptyAndIsKept() throws IOException {
+        Path file = dir.resolve("attendance.snapshot");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5});
+
+        try (InMemoryAttendanceRepository repo = new InMemoryAttendanceRepository(file)) {
+            assertEquals(0, repo.countEmployees());
+            assertTrue(repo.validateAdmin("admin", "admin123"));
+            repo.addEmployee("Ann", "Clerk", "ann@example.com");
+        }
+
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, Files.readAllBytes(file));
+    }
+}
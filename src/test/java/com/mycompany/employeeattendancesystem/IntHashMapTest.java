@@ -0,0 +1,89 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Lookups, overwrites, backward-shift removal and resizing of IntHashMap.
+ */
+class IntHashMapTest {
+
+    @Test
+    void putGetAndOverwrite() {
+        IntHashMap<String> map = new IntHashMap<>();
+        assertNull(map.put(7, "a"));
+        assertNull(map.put(-3, "b"));
+        assertNull(map.put(0, "c"));
+        assertEquals("a", map.put(7, "A"));
+
+        assertEquals(3, map.size());
+        assertEquals("A", map.get(7));
+        assertEquals("b", map.get(-3));
+        assertEquals("c", map.get(0));
+        assertNull(map.get(8));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void removingAnyKeyKeepsTheRestOfItsProbeRunReachable() {
+        // 12 keys in 16 slots: the probe runs overlap, so every removal has to shift entries back
+        for (int removed = 1; removed <= 12; removed++) {
+            IntHashMap<Integer> map = new IntHashMap<>();
+            for (int key = 1; key <= 12; key++) {
+                map.put(key, key * 10);
+            }
+
+            assertEquals(removed * 10, (int) map.remove(removed));
+            assertNull(map.remove(removed));
+            assertEquals(11, map.size());
+            for (int key = 1; key <= 12; key++) {
+                assertEquals(key == removed ? null : key * 10, map.get(key), "key " + key);
+            }
+        }
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        IntHashMap<Integer> map = new IntHashMap<>(4);
+        for (int key = 0; key < 10_000; key++) {
+            map.put(key * 31, key);
+        }
+        assertEquals(10_000, map.size());
+        for (int key = 0; key < 10_000; key++) {
+            assertEquals(key, (int) map.get(key * 31));
+        }
+
+        int[] sum = new int[1];
+        map.forEach((key, value) -> sum[0] += key - value * 31);
+        assertEquals(0, sum[0]);
+    }
+
+    @Test
+    void behavesLikeHashMapUnderRandomPutsAndRemoves() {
+        IntHashMap<Integer> map = new IntHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(expected.isEmpty() ? 0 : expected.keySet().iterator().next()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Page cursors and keyset paging through employees and attendance history.
+ */
+class KeysetPagingTest {
+
+    @TempDir
+    Path dir;
+
+    private DatabaseManager db;
+
+    @BeforeEach
+    void openDatabase() {
+        db = new DatabaseManager("jdbc:sqlite:" + dir.resolve("attendance.db"));
+        for (int i = 0; i < 25; i++) {
+            db.addEmployee("Employee " + i, "Clerk", "e" + i + "@example.com");
+        }
+    }
+
+    @AfterEach
+    void closeDatabase() {
+        db.close();
+    }
+
+    @Test
+    void cursorRoundTrip() {
+        String cursor = Page.encodeCursor("employee", 42);
+        assertEquals(42, Page.decodeCursor("employee", cursor));
+        assertEquals(Long.MAX_VALUE, Page.decodeCursor("day", Page.encodeCursor("day", Long.MAX_VALUE)));
+    }
+
+    @Test
+    void cursorFromAnotherListingOrGarbageIsRejected() {
+        String dayCursor = Page.encodeCursor("day", 19_000);
+        assertThrows(IllegalArgumentException.class, () -> Page.decodeCursor("employee", dayCursor));
+        assertThrows(IllegalArgumentException.class, () -> Page.decodeCursor("employee", "not a cursor!"));
+        assertTrue(db.getEmployeesPage(dayCursor, 10).getRows().isEmpty());
+    }
+
+    @Test
+    void walkingAllPagesListsEveryEmployeeOnce() {
+        List<Employee> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<Employee> page = db.getEmployeesPage(cursor, 10);
+            seen.addAll(page.getRows());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages); // 10 + 10 + 5; the short page is the last
+        assertEquals(ids(db.getAllEmployees()), ids(seen));
+    }
+
+    @Test
+    void deletingARowDoesNotShiftTheNextPage() {
+        Page<Employee> first = db.getEmployeesPage(null, 10);
+        db.deleteEmployee(first.getRows().get(0).getId());
+
+        Page<Employee> second = db.getEmployeesPage(first.getNextCursor(), 10);
+        assertEquals(first.getRows().get(9).getId() + 1, second.getRows().get(0).getId());
+    }
+
+    @Test
+    void employeeCursorStartsAtAnOffset() {
+        List<Employee> all = db.getAllEmployees();
+        assertNull(db.getEmployeeCursor(0));
+        assertEquals(all.get(12).getId(), db.getEmployeesPage(db.getEmployeeCursor(12), 1).getRows().get(0).getId());
+        assertTrue(db.getEmployeesPage(db.getEmployeeCursor(100), 10).getRows().isEmpty());
+    }
+
+    @Test
+    void historyPagesGoBackInTime() {
+        int id = db.getAllEmployees().get(0).getId();
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 7; i++) {
+            db.markAttendance(id, day.plusDays(i).toString(), i % 2 == 0 ? "Present" : "Absent");
+        }
+
+        Page<AttendanceEntry> first = db.getAttendanceHistory(id, null, 4);
+        assertEquals("2024-01-07", first.getRows().get(0).getDate());
+        assertTrue(first.hasMore());
+
+        Page<AttendanceEntry> second = db.getAttendanceHistory(id, first.getNextCursor(), 4);
+        assertEquals(3, second.getRows().size());
+        assertEquals("2024-01-03", second.getRows().get(0).getDate());
+        assertEquals("2024-01-01", second.getRows().get(2).getDate());
+        assertFalse(second.hasMore());
+    }
+
+    private static List<Integer> ids(List<Employee> employees) {
+        List<Integer> ids = new ArrayList<>();
+        for (Employee emp : employees) {
+            ids.add(emp.getId());
+        }
+        return ids;
+    }
+}
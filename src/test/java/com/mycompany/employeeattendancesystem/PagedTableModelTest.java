@@ -0,0 +1,127 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pages that come back short or fail must not be fetched over and over.
+ */
+class PagedTableModelTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private AsyncDatabaseManager dbManager;
+    private PagedTableModel<Integer> model;
+
+    @BeforeEach
+    void createModel() {
+        dbManager = new AsyncDatabaseManager(new InMemoryAttendanceRepository());
+        model = new PagedTableModel<>(new String[] {"Value"}, (row, column) -> row, dbManager, PAGE_SIZE, 4);
+    }
+
+    @AfterEach
+    void closeManager() {
+        dbManager.close();
+    }
+
+    @Test
+    void shortPageShrinksTheTable() throws Exception {
+        // Counted 30 rows, but only 15 are left when the pages are fetched
+        AtomicInteger fetches = new AtomicInteger();
+        model.reload(source(30, 15, fetches, null)).join();
+        waitFor(() -> model.getRowCount() == 30);
+
+        onEdt(() -> model.getValueAt(25, 0));
+        waitFor(() -> model.getRowCount() == 20);
+        onEdt(() -> model.getValueAt(12, 0));
+        waitFor(() -> model.getRowCount() == 15);
+
+        assertEquals(14, (int) onEdt(() -> model.getRow(14)));
+        int settled = fetches.get();
+        for (int i = 0; i < 20; i++) {
+            onEdt(() -> model.getValueAt(14, 0)); // Repaints of the last row
+        }
+        Thread.sleep(100);
+        assertEquals(settled, fetches.get());
+    }
+
+    @Test
+    void failedPageIsFetchedAgainWhenShownAgain() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        model.reload(source(20, 20, fetches, failuresLeft)).join();
+        waitFor(() -> model.getRowCount() == 20);
+
+        assertNull(onEdt(() -> model.getRow(3)));
+        waitFor(() -> fetches.get() == 1);
+        Thread.sleep(100); // Let the failure reach the EDT
+
+        // Not stuck as "loading": showing the row again fetches it
+        waitFor(() -> model.getRow(3) != null);
+        assertEquals(3, (int) onEdt(() -> model.getRow(3)));
+        assertEquals(20, model.getRowCount());
+        assertTrue(fetches.get() >= 2);
+    }
+
+    /**
+     * Rows 0, 1, 2, ...: counts 'counted' of them but only 'available' exist.
+     * The first fetches throw while 'failuresLeft' is above zero.
+     */
+    private static PagedTableModel.PageSource<Integer> source(int counted, int available,
+            AtomicInteger fetches, AtomicInteger failuresLeft) {
+        return new PagedTableModel.PageSource<>() {
+            @Override
+            public int countRows() {
+                return counted;
+            }
+
+            @Override
+            public List<Integer> fetchPage(int offset, int limit) {
+                fetches.incrementAndGet();
+                if (failuresLeft != null && failuresLeft.getAndDecrement() > 0) {
+                    throw new IllegalStateException("database is down");
+                }
+                List<Integer> rows = new ArrayList<>();
+                for (int i = offset; i < Math.min(offset + limit, available); i++) {
+                    rows.add(i);
+                }
+                return rows;
+            }
+        };
+    }
+
+    private static <V> V onEdt(Callable<V> work) throws Exception {
+        List<V> result = new ArrayList<>();
+        Exception[] error = new Exception[1];
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                result.add(work.call());
+            } catch (Exception e) {
+                error[0] = e;
+            }
+        });
+        if (error[0] != null) {
+            throw error[0];
+        }
+        return result.get(0);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!onEdt(condition::getAsBoolean)) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+}
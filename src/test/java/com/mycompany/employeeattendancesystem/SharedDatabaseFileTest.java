@@ -0,0 +1,109 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Two DatabaseManagers on one file, standing in for two terminals: each one's
+ * in-memory caches pick up what the other one wrote.
+ */
+class SharedDatabaseFileTest {
+
+    private static final String DAY = "2024-03-01";
+
+    @TempDir
+    Path dir;
+
+    private DatabaseManager first;
+    private DatabaseManager second;
+
+    @BeforeEach
+    void openDatabase() {
+        String url = "jdbc:sqlite:" + dir.resolve("attendance.db");
+        first = new DatabaseManager(url);
+        second = new DatabaseManager(url);
+    }
+
+    @AfterEach
+    void closeDatabase() {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void employeesAddedAndDeletedElsewhereReachTheDirectory() throws Exception {
+        assertTrue(second.addEmployee("Ann Lee", "Clerk", "ann@example.com"));
+        Employee ann = second.getAllEmployees().get(0);
+
+        // Directory reads are pure in-memory: the cache refresher brings the change in
+        waitFor(() -> first.countEmployees() == 1);
+        assertEquals("Ann Lee", first.getEmployee(ann.getId()).getName());
+        assertEquals(1, first.findEmployeesByPrefix("ann", 10).size());
+        // A new hire from the other terminal can be marked here straight away
+        assertTrue(first.markAttendance(ann.getId(), DAY, "Present"));
+
+        assertTrue(second.deleteEmployee(ann.getId()));
+        waitFor(() -> first.countEmployees() == 0);
+        assertNull(first.getEmployee(ann.getId()));
+        assertEquals(0, first.findEmployeesByPrefix("ann", 10).size());
+    }
+
+    @Test
+    void changesElsewhereAreAnnouncedWithoutAnyRead() throws Exception {
+        AtomicInteger changes = new AtomicInteger();
+        first.getChangeBus().subscribe(events -> changes.addAndGet(events.size()));
+
+        assertTrue(second.addEmployee("Ann Lee", "Clerk", "ann@example.com"));
+        waitFor(() -> changes.get() == 1);
+    }
+
+    @Test
+    void marksMadeElsewhereReachTheHeadcounts() {
+        assertTrue(first.addEmployee("Ann Lee", "Clerk", "ann@example.com"));
+        assertTrue(first.addEmployee("Bob Stone", "Driver", "bob@example.com"));
+        int ann = first.getAllEmployees().get(0).getId();
+        int bob = first.getAllEmployees().get(1).getId();
+        assertArrayEquals(new int[]{0, 0, 0}, first.getDailyStatusCounts(DAY));
+
+        assertTrue(second.markAttendance(ann, DAY, "Present"));
+        assertTrue(second.markAttendance(bob, DAY, "Absent"));
+        assertArrayEquals(new int[]{1, 1, 0}, first.getDailyStatusCounts(DAY));
+
+        // A changed mark moves between the counts; a deleted employee's marks go
+        assertTrue(second.markAttendance(bob, DAY, "On Leave"));
+        assertTrue(second.deleteEmployee(ann));
+        assertArrayEquals(new int[]{0, 0, 1}, first.getDailyStatusCounts(DAY));
+        assertEquals(1, first.getDailySummary(DAY, DAY).get(0).getOnLeave());
+        assertEquals(0, first.getDailySummary(DAY, DAY).get(0).getNotMarked());
+    }
+
+    @Test
+    void ownWritesStayCorrectWhenReplayed() {
+        assertTrue(first.addEmployee("Ann Lee", "Clerk", "ann@example.com"));
+        int ann = first.getAllEmployees().get(0).getId();
+        assertTrue(first.markAttendance(ann, DAY, "Absent"));
+        assertTrue(second.markAttendance(ann, DAY, "Present")); // The other terminal corrects it
+
+        assertEquals(1, first.countEmployees());
+        assertArrayEquals(new int[]{1, 0, 0}, first.getDailyStatusCounts(DAY));
+        assertArrayEquals(new int[]{1, 0, 0}, second.getDailyStatusCounts(DAY));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * A cached statement must come back from the cache as if freshly prepared.
+ */
+class StatementCacheTest {
+
+    private static final String INSERT = "INSERT INTO t(v) VALUES (?)";
+
+    @TempDir
+    Path dir;
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void openPool() throws SQLException {
+        pool = new ConnectionPool("jdbc:sqlite:" + dir.resolve("cache.db"), 1);
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t(v INTEGER)");
+        }
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void unsentBatchIsNotLeftForTheNextBorrower() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT)) {
+            pstmt.setInt(1, 1);
+            pstmt.addBatch();
+            // The caller fails here, before executeBatch()
+        }
+
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT)) {
+            pstmt.setInt(1, 2);
+            pstmt.addBatch();
+            assertEquals(1, pstmt.executeBatch().length);
+        }
+        assertEquals(1, count());
+        assertEquals(1, pool.getStatementCacheHits());
+    }
+
+    @Test
+    void fetchSizeAndMaxRowsAreRestored() throws SQLException {
+        String select = "SELECT v FROM t";
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(select)) {
+            pstmt.setFetchSize(500);
+            pstmt.setMaxRows(1);
+        }
+
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(select)) {
+            assertEquals(0, pstmt.getMaxRows());
+            assertEquals(0, pstmt.getFetchSize());
+        }
+    }
+
+    private int count() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM t")) {
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.mycompany.employeeattendancesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checkpoints run as writes on the DatabaseWriter thread.
+ */
+class WalCheckpointerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void finalCheckpointGoesThroughTheWriterAndEmptiesTheLog() throws Exception {
+        Path file = dir.resolve("attendance.db");
+        try (ConnectionPool pool = new ConnectionPool("jdbc:sqlite:" + file, 1);
+             DatabaseWriter writer = new DatabaseWriter(1000)) {
+            try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=WAL");
+                stmt.execute("CREATE TABLE t(v INTEGER)");
+                for (int i = 0; i < 100; i++) {
+                    stmt.execute("INSERT INTO t(v) VALUES (" + i + ")");
+                }
+            }
+            Path wal = dir.resolve("attendance.db-wal");
+            assertTrue(Files.size(wal) > 0);
+
+            WalCheckpointer checkpointer = new WalCheckpointer(pool, writer, 3600);
+            checkpointer.close();
+
+            assertEquals(1, writer.getWriteCount());
+            assertEquals(0, Files.size(wal));
+        }
+    }
+}